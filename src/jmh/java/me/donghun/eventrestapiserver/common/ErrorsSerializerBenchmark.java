@@ -0,0 +1,71 @@
+package me.donghun.eventrestapiserver.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorsSerializerBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Errors errors;
+    private ErrorsModel errorsModel;
+
+    @Setup
+    public void setUp() {
+        objectMapper = HalObjectMappers.create();
+        // EventValidator 가 만드는 것과 같은 필드 오류 3개 + 글로벌 오류 1개
+        errors = new BeanPropertyBindingResult(new Target(), "eventDto");
+        errors.rejectValue("basePrice", "wrongValue", "when maxPrice != 0, maxPrice should be larger than basePrice");
+        errors.rejectValue("maxPrice", "wrongValue", "when maxPrice != 0, maxPrice should be larger than basePrice");
+        errors.rejectValue("endEventDateTime", "wrongValue", "endEventDateTime should be end");
+        errors.reject("wrongValue", "global error");
+        errorsModel = new ErrorsModel(errors);
+    }
+
+    @Benchmark
+    public byte[] serializeErrors() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errors);
+    }
+
+    // index 링크 생성 비용 포함
+    @Benchmark
+    public byte[] createAndSerializeErrorsModel() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new ErrorsModel(errors));
+    }
+
+    @Benchmark
+    public byte[] serializeErrorsModel() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errorsModel);
+    }
+
+    public static class Target {
+
+        private int basePrice = 10000;
+        private int maxPrice = 200;
+        private String endEventDateTime = "2021-09-08T20:30";
+
+        public int getBasePrice() {
+            return basePrice;
+        }
+
+        public int getMaxPrice() {
+            return maxPrice;
+        }
+
+        public String getEndEventDateTime() {
+            return endEventDateTime;
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package me.donghun.eventrestapiserver.events;
+
+import java.time.LocalDateTime;
+
+final class EventFixtures {
+
+    private EventFixtures() {
+    }
+
+    static EventDto eventDto() {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2021, 9, 9, 20, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2021, 9, 10, 20, 30))
+                .beginEventDateTime(LocalDateTime.of(2021, 9, 11, 20, 30))
+                .endEventDateTime(LocalDateTime.of(2021, 9, 12, 20, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .build();
+    }
+
+    // 가격, 종료 시각 모두 비즈니스 규칙에 맞지 않는 입력
+    static EventDto wrongEventDto() {
+        EventDto eventDto = eventDto();
+        eventDto.setBasePrice(10000);
+        eventDto.setEndEventDateTime(LocalDateTime.of(2021, 9, 8, 20, 30));
+        return eventDto;
+    }
+
+    static Event event(int id) {
+        Event event = new EventMapper().toEvent(eventDto());
+        event.setId(id);
+        event.setVersion(0L);
+        event.update();
+        return event;
+    }
+
+}
@@ -0,0 +1,51 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private EventMapper eventMapper;
+    private EventDto eventDto;
+    private Event existingEvent;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        eventMapper = new EventMapper();
+        eventDto = EventFixtures.eventDto();
+        existingEvent = eventMapper.toEvent(eventDto);
+    }
+
+    @Benchmark
+    public Event modelMapperCreate() {
+        return modelMapper.map(eventDto, Event.class);
+    }
+
+    @Benchmark
+    public Event eventMapperCreate() {
+        return eventMapper.toEvent(eventDto);
+    }
+
+    @Benchmark
+    public Event modelMapperUpdate() {
+        modelMapper.map(eventDto, existingEvent);
+        return existingEvent;
+    }
+
+    @Benchmark
+    public Event eventMapperUpdate() {
+        eventMapper.update(eventDto, existingEvent);
+        return existingEvent;
+    }
+
+}
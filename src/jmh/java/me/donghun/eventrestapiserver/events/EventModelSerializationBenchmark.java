@@ -0,0 +1,67 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.donghun.eventrestapiserver.common.HalObjectMappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// EventModel(@JsonUnwrapped Event + _links) HAL 직렬화.
+// serializer=default 는 Jackson 기본 직렬화, serializer=event 는 EventJacksonModule 의 전용 serializer
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventModelSerializationBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    @Param({"default", "event"})
+    private String serializer;
+
+    private ObjectMapper objectMapper;
+    private Event event;
+    private EventModel eventModel;
+    private PagedModel<EventModel> pagedModel;
+
+    @Setup
+    public void setUp() {
+        objectMapper = "event".equals(serializer) ? HalObjectMappers.create() : HalObjectMappers.createDefault();
+        event = EventFixtures.event(1);
+        eventModel = new EventModel(event);
+        eventModel.add(Link.of("/docs/index.html#resources-events-get").withRel("profile"));
+
+        List<EventModel> content = IntStream.range(0, pageSize)
+                .mapToObj(i -> new EventModel(EventFixtures.event(i)))
+                .collect(Collectors.toList());
+        pagedModel = PagedModel.of(content, new PagedModel.PageMetadata(pageSize, 1, pageSize * 10L, 10));
+        pagedModel.add(Link.of("http://localhost:8080/api/events?page=1&size=" + pageSize).withSelfRel());
+        pagedModel.add(Link.of("/docs/index.html#resources-events-list").withRel("profile"));
+    }
+
+    @Benchmark
+    public byte[] serializeEventModel() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(eventModel);
+    }
+
+    // EventModel 생성(self 링크 생성) 비용 포함
+    @Benchmark
+    public byte[] createAndSerializeEventModel() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new EventModel(event));
+    }
+
+    @Benchmark
+    public byte[] serializePagedModel() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pagedModel);
+    }
+
+}
@@ -0,0 +1,76 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import me.donghun.eventrestapiserver.common.HalObjectMappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+// GET /api/events 한 페이지를 형식별로 인코딩하는 시간.
+// format=json-gzip 은 Tomcat 압축(기본 압축 수준)까지 포함한다. 형식별 크기는 시작할 때 한 번 출력한다.
+// 픽스처 이벤트는 id 만 다르므로 gzip 크기는 실제 데이터보다 작게 나온다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPageEncodingBenchmark {
+
+    @Param({"20", "100", "1000"})
+    private int pageSize;
+
+    @Param({"json", "json-gzip", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private boolean gzip;
+    private PagedModel<EventModel> pagedModel;
+
+    @Setup
+    public void setUp() throws IOException {
+        gzip = "json-gzip".equals(format);
+        if("cbor".equals(format)) {
+            objectMapper = HalObjectMappers.create(new CBORFactory());
+        }
+        else if("smile".equals(format)) {
+            objectMapper = HalObjectMappers.create(new SmileFactory());
+        }
+        else {
+            objectMapper = HalObjectMappers.create();
+        }
+
+        List<EventModel> content = IntStream.range(0, pageSize)
+                .mapToObj(i -> new EventModel(EventFixtures.event(i)))
+                .collect(Collectors.toList());
+        pagedModel = PagedModel.of(content, new PagedModel.PageMetadata(pageSize, 1, pageSize * 10L, 10));
+        pagedModel.add(Link.of("http://localhost:8080/api/events?page=1&size=" + pageSize).withSelfRel());
+        pagedModel.add(Link.of("/docs/index.html#resources-events-list").withRel("profile"));
+
+        System.out.printf("%n%s, %d events: %d bytes%n", format, pageSize, encode().length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if(!gzip) {
+            return objectMapper.writeValueAsBytes(pagedModel);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, pagedModel);
+        }
+        return bytes.toByteArray();
+    }
+
+}
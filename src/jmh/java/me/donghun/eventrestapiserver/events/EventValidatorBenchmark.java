@@ -0,0 +1,59 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventValidatorBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private EventValidator eventValidator;
+    private EventDto eventDto;
+    private EventDto wrongEventDto;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        eventValidator = new EventValidator(validatorFactory.getValidator());
+        eventDto = EventFixtures.eventDto();
+        wrongEventDto = EventFixtures.wrongEventDto();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Errors validate() {
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        eventValidator.validate(eventDto, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors validateRejected() {
+        Errors errors = new BeanPropertyBindingResult(wrongEventDto, "eventDto");
+        eventValidator.validate(wrongEventDto, errors);
+        return errors;
+    }
+
+    // Bean Validation(@NotEmpty, @Min ...) 포함
+    @Benchmark
+    public Errors validateAll() {
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        eventValidator.validateAll(eventDto, errors);
+        return errors;
+    }
+
+}
@@ -0,0 +1,92 @@
+package me.donghun.eventrestapiserver.load;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+// DataSource 를 감싸서 JDBC 문장을 실행할 때마다 latency 만큼 호출한 스레드를 재운다 (원격 DB 왕복 시간 흉내).
+// 커넥션을 잡은 채로 기다리므로 실제 DB가 느릴 때처럼 요청 스레드와 커넥션이 함께 묶인다
+class JdbcLatencyPostProcessor implements BeanPostProcessor {
+
+    private volatile Duration latency = Duration.ZERO;
+
+    void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if(bean instanceof DataSource) {
+            return new DelegatingDataSource((DataSource) bean) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return (Connection) proxy(Connection.class, super.getConnection());
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return (Connection) proxy(Connection.class, super.getConnection(username, password));
+                }
+            };
+        }
+        return bean;
+    }
+
+    private Object proxy(Class<?> type, Object target) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                (instance, method, args) -> {
+                    if(method.getName().startsWith("execute")) {
+                        pause();
+                    }
+                    Object result = invoke(target, method, args);
+                    if(result instanceof Statement) {
+                        return proxy(statementType((Statement) result), result);
+                    }
+                    return result;
+                });
+    }
+
+    private static Class<?> statementType(Statement statement) {
+        if(statement instanceof CallableStatement) {
+            return CallableStatement.class;
+        }
+        if(statement instanceof PreparedStatement) {
+            return PreparedStatement.class;
+        }
+        return Statement.class;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        }
+        catch(InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void pause() throws SQLException {
+        Duration current = latency;
+        if(current.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(current.toMillis());
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("interrupted while injecting latency", e);
+        }
+    }
+
+}
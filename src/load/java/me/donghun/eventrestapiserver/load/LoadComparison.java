@@ -0,0 +1,189 @@
+package me.donghun.eventrestapiserver.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.donghun.eventrestapiserver.EventRestApiServerApplication;
+import me.donghun.eventrestapiserver.reactive.ReactiveEventApiApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// servlet 스택과 reactive 스택에 같은 부하를 주고 처리량과 지연 분위수를 비교한다: ./mvnw -Pload test
+// 두 스택 모두 같은 이벤트(events.seed.count)로 시작하고, 같은 커넥션 풀 크기에서 DB 문장마다 같은 지연을 넣는다.
+// 부하는 동시 사용자 수만큼의 스레드가 응답을 받자마자 다음 요청을 보내는 방식(closed loop)으로 준다.
+// 설정은 시스템 프로퍼티(load.*)로 바꾼다. 서버와 부하 발생기가 같은 JVM 에서 돌므로 절대값보다 두 스택의 차이를 본다
+public class LoadComparison {
+
+    private static final int SEED_COUNT = Integer.getInteger("load.seed-count", 1000);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 256);
+    private static final int POOL_SIZE = Integer.getInteger("load.pool-size", 50);
+    private static final List<Duration> LATENCIES = Arrays.stream(System.getProperty("load.latencies", "0ms,20ms,100ms").split(","))
+            .map(latency -> DurationStyle.detectAndParse(latency.trim()))
+            .collect(Collectors.toList());
+    private static final Duration WARMUP = DurationStyle.detectAndParse(System.getProperty("load.warmup", "15s"));
+    private static final Duration DURATION = DurationStyle.detectAndParse(System.getProperty("load.duration", "30s"));
+    private static final String PATH = System.getProperty("load.path", "/api/events?page=0&size=20&sort=name,DESC");
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        LoadComparison loadComparison = new LoadComparison();
+        List<Result> results = new ArrayList<>();
+
+        try(ConfigurableApplicationContext context = new SpringApplicationBuilder(EventRestApiServerApplication.class,
+                JdbcLatencyPostProcessor.class)
+                .run(arguments())) {
+            JdbcLatencyPostProcessor latency = context.getBean(JdbcLatencyPostProcessor.class);
+            results.addAll(loadComparison.run("servlet", context, latency::setLatency));
+        }
+
+        try(ConfigurableApplicationContext context = new SpringApplicationBuilder(ReactiveEventApiApplication.class,
+                R2dbcLatencyPostProcessor.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles(ReactiveEventApiApplication.PROFILE)
+                .run(arguments())) {
+            R2dbcLatencyPostProcessor latency = context.getBean(R2dbcLatencyPostProcessor.class);
+            results.addAll(loadComparison.run("reactive", context, latency::setLatency));
+        }
+
+        System.out.printf("%nGET %s, events=%d, concurrency=%d, pool-size=%d, warmup=%s, duration=%s, %d cpus%n%n",
+                PATH, SEED_COUNT, CONCURRENCY, POOL_SIZE, WARMUP, DURATION, Runtime.getRuntime().availableProcessors());
+        System.out.println("| stack | DB latency | requests/s | p50 (ms) | p99 (ms) | errors |");
+        System.out.println("|---|---|---|---|---|---|");
+        results.forEach(System.out::println);
+    }
+
+    private static String[] arguments() {
+        return new String[]{
+                "--server.port=0",
+                "--events.seed.count=" + SEED_COUNT,
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.r2dbc.pool.initial-size=" + POOL_SIZE,
+                "--spring.r2dbc.pool.max-size=" + POOL_SIZE,
+                "--logging.level.root=WARN"
+        };
+    }
+
+    private List<Result> run(String stack, ConfigurableApplicationContext context, Consumer<Duration> latency) throws Exception {
+        URI uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + PATH);
+        checkSeeded(stack, uri);
+        // 첫 구간만 JIT 가 덜 된 상태로 재지 않도록 지연 없이 한 번 더 데운다
+        load(uri, WARMUP.multipliedBy(2));
+
+        List<Result> results = new ArrayList<>();
+        for(Duration dbLatency : LATENCIES) {
+            latency.accept(dbLatency);
+            load(uri, WARMUP);
+            Result result = load(uri, DURATION);
+            result.stack = stack;
+            result.dbLatency = dbLatency;
+            System.out.println(result);
+            results.add(result);
+        }
+        return results;
+    }
+
+    // 두 스택이 같은 개수의 이벤트로 시작했는지 확인한다
+    private void checkSeeded(String stack, URI uri) throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+        long totalElements = new ObjectMapper().readTree(response.body()).path("page").path("totalElements").asLong();
+        if(totalElements != SEED_COUNT) {
+            throw new IllegalStateException(stack + " started with " + totalElements + " events, expected " + SEED_COUNT);
+        }
+    }
+
+    private Result load(URI uri, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        ExecutorService users = Executors.newFixedThreadPool(CONCURRENCY);
+        List<Future<long[]>> futures = new ArrayList<>();
+        long[] errors = new long[CONCURRENCY];
+        for(int i = 0; i < CONCURRENCY; i++) {
+            int user = i;
+            futures.add(users.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                while(System.nanoTime() < deadline) {
+                    long sent = System.nanoTime();
+                    int status;
+                    try {
+                        status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    }
+                    catch(Exception e) {
+                        status = -1;
+                    }
+                    if(status != 200) {
+                        errors[user]++;
+                        continue;
+                    }
+                    if(count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - sent;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        List<long[]> latencies = new ArrayList<>();
+        for(Future<long[]> future : futures) {
+            latencies.add(future.get());
+        }
+        long elapsed = System.nanoTime() - start;
+        users.shutdown();
+
+        long[] merged = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        Result result = new Result();
+        result.requestsPerSecond = merged.length / (elapsed / 1e9);
+        result.p50 = percentile(merged, 0.50);
+        result.p99 = percentile(merged, 0.99);
+        result.errors = Arrays.stream(errors).sum();
+        return result;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if(sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static class Result {
+
+        String stack;
+        Duration dbLatency;
+        double requestsPerSecond;
+        double p50;
+        double p99;
+        long errors;
+
+        @Override
+        public String toString() {
+            return String.format("| %s | %d ms | %.0f | %.1f | %.1f | %d |",
+                    stack, dbLatency.toMillis(), requestsPerSecond, p50, p99, errors);
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package me.donghun.eventrestapiserver.load;
+
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+
+// ConnectionFactory 를 감싸서 R2DBC 문장의 결과가 latency 만큼 늦게 오도록 한다 (JdbcLatencyPostProcessor 의 R2DBC 판).
+// 커넥션은 그동안 잡혀 있지만 스레드는 기다리지 않는다
+class R2dbcLatencyPostProcessor implements BeanPostProcessor {
+
+    private volatile Duration latency = Duration.ZERO;
+
+    void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if(bean instanceof ConnectionFactory) {
+            return proxy(bean, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                if(method.getName().equals("create")) {
+                    return Mono.from((Publisher<?>) result).map(this::connection);
+                }
+                return result;
+            });
+        }
+        return bean;
+    }
+
+    private Object connection(Object connection) {
+        return proxy(connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if(result instanceof Statement || result instanceof Batch) {
+                return statement(result);
+            }
+            return result;
+        });
+    }
+
+    // bind, add 처럼 자기 자신을 돌려주는 메서드는 프록시를 돌려준다
+    private Object statement(Object statement) {
+        Object[] self = new Object[1];
+        self[0] = proxy(statement, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            Duration current = latency;
+            if(method.getName().equals("execute") && !current.isZero()) {
+                return Flux.from((Publisher<?>) result).delaySubscription(current);
+            }
+            return result == target ? self[0] : result;
+        });
+        return self[0];
+    }
+
+    private static Object proxy(Object target, Handler handler) {
+        return Proxy.newProxyInstance(R2dbcLatencyPostProcessor.class.getClassLoader(),
+                ClassUtils.getAllInterfaces(target),
+                (instance, method, args) -> handler.handle(target, method, args));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        }
+        catch(InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private interface Handler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+}
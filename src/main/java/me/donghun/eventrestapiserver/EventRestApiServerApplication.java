@@ -2,17 +2,33 @@ package me.donghun.eventrestapiserver;
 
 import me.donghun.eventrestapiserver.events.Event;
 import me.donghun.eventrestapiserver.events.EventRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.stream.IntStream;
 
-@SpringBootApplication
+// R2DBC 는 reactive 프로파일(ReactiveEventApiApplication)에서만 쓴다
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcDataAutoConfiguration.class,
+        R2dbcRepositoriesAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
+@EnableJpaRepositories(excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+        classes = ReactiveCrudRepository.class))
+@EnableCaching
+@EnableScheduling
 public class EventRestApiServerApplication {
 
     public static void main(String[] args) {
@@ -22,12 +38,15 @@ public class EventRestApiServerApplication {
     @Autowired
     EventRepository eventRepository;
 
+    @Value("${events.seed.count}")
+    int seedCount;
+
     @Bean
     public ApplicationRunner applicationRunner() {
         return new ApplicationRunner() {
             @Override
             public void run(ApplicationArguments args) throws Exception {
-                IntStream.range(0, 30).forEach(i -> {
+                IntStream.range(0, seedCount).forEach(i -> {
                     Event event = Event.builder()
                             .name("event" + i)
                             .description("test event")
@@ -39,9 +58,4 @@ public class EventRestApiServerApplication {
         };
     }
 
-    @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
-
 }
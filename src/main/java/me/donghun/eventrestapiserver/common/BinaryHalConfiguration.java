@@ -0,0 +1,63 @@
+package me.donghun.eventrestapiserver.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+// 서비스 간 호출용으로 HAL 과 같은 구조(_embedded, _links, errors 등)를 CBOR, Smile 로도 응답한다.
+// 스프링 MVC 기본 CBOR/Smile converter 는 HAL 모듈 없이 링크를 쓰므로, 애플리케이션 ObjectMapper 설정에
+// HAL 모듈을 더한 converter 로 바꿔 끼운다
+@Configuration
+public class BinaryHalConfiguration implements WebMvcConfigurer {
+
+    public static final String CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+    private final LinkRelationProvider linkRelationProvider;
+    private final ObjectProvider<CurieProvider> curieProvider;
+    private final MessageResolver messageResolver;
+
+    public BinaryHalConfiguration(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder,
+                                  LinkRelationProvider linkRelationProvider,
+                                  ObjectProvider<CurieProvider> curieProvider,
+                                  MessageResolver messageResolver) {
+        this.objectMapperBuilder = objectMapperBuilder;
+        this.linkRelationProvider = linkRelationProvider;
+        this.curieProvider = curieProvider;
+        this.messageResolver = messageResolver;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter ||
+                converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(halObjectMapper(new CBORFactory())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(halObjectMapper(new SmileFactory())));
+    }
+
+    private ObjectMapper halObjectMapper(JsonFactory factory) {
+        // 스프링 부트가 설정한 builder 라서 JsonComponent(ErrorsSerializer), EventJacksonModule, 날짜 형식이 같다
+        ObjectMapper objectMapper = objectMapperBuilder.getObject().factory(factory).build();
+        objectMapper.registerModule(new Jackson2HalModule());
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                linkRelationProvider, curieProvider.getIfAvailable(() -> CurieProvider.NONE), messageResolver));
+        return objectMapper;
+    }
+
+}
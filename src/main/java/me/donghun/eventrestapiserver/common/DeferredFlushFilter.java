@@ -0,0 +1,99 @@
+package me.donghun.eventrestapiserver.common;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+
+// 메시지 컨버터는 본문을 쓴 뒤 flush 하는데, 그러면 Tomcat 이 Content-Length 를 모르는 채로 응답을 커밋해서
+// server.compression.min-response-size 보다 작은 응답도 압축한다. 요청 처리 중의 flush 는 무시해서
+// 버퍼에 다 들어가는 작은 응답은 길이가 정해진 뒤 커밋되게 한다. 버퍼를 넘는 응답은 그대로 흘려보낸다.
+// async 가 시작된 뒤(export 스트리밍)의 flush 는 그대로 전달한다
+@Component
+public class DeferredFlushFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, new DeferredFlushResponse(request, response));
+    }
+
+    private static final class DeferredFlushResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private ServletOutputStream outputStream;
+
+        private DeferredFlushResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if(outputStream == null) {
+                outputStream = new DeferredFlushOutputStream(super.getOutputStream(), request);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if(request.isAsyncStarted()) {
+                super.flushBuffer();
+            }
+        }
+
+    }
+
+    private static final class DeferredFlushOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final HttpServletRequest request;
+
+        private DeferredFlushOutputStream(ServletOutputStream delegate, HttpServletRequest request) {
+            this.delegate = delegate;
+            this.request = request;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if(request.isAsyncStarted()) {
+                delegate.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+    }
+
+}
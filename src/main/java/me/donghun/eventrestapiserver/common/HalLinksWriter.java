@@ -0,0 +1,83 @@
+package me.donghun.eventrestapiserver.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+
+import java.io.IOException;
+import java.util.List;
+
+// HAL "_links" 를 직접 쓴다. Jackson2HalModule 과 같은 모양(rel 별 객체, 같은 rel 이 여럿이면 배열)으로 쓰며,
+// href 외의 속성(title, templated 등)이 있는 링크는 지원하지 않으므로 isSimple() 로 먼저 확인해야 한다
+public final class HalLinksWriter {
+
+    private HalLinksWriter() {
+    }
+
+    public static boolean isSimple(Links links) {
+        for(Link link : links) {
+            if(link.isTemplated() || link.getHreflang() != null || link.getMedia() != null || link.getTitle() != null ||
+                    link.getType() != null || link.getDeprecation() != null || link.getProfile() != null || link.getName() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void write(Links links, JsonGenerator gen) throws IOException {
+        if(links.isEmpty()) {
+            return;
+        }
+
+        List<Link> linkList = links.toList();
+        gen.writeFieldName("_links");
+        gen.writeStartObject();
+        for(int i = 0; i < linkList.size(); i++) {
+            String rel = linkList.get(i).getRel().value();
+            if(seenBefore(linkList, i, rel)) {
+                continue;
+            }
+
+            gen.writeFieldName(rel);
+            if(countFrom(linkList, i, rel) == 1) {
+                writeLink(linkList.get(i), gen);
+                continue;
+            }
+
+            gen.writeStartArray();
+            for(int j = i; j < linkList.size(); j++) {
+                if(linkList.get(j).getRel().value().equals(rel)) {
+                    writeLink(linkList.get(j), gen);
+                }
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeLink(Link link, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("href", link.getHref());
+        gen.writeEndObject();
+    }
+
+    private static boolean seenBefore(List<Link> links, int index, String rel) {
+        for(int i = 0; i < index; i++) {
+            if(links.get(i).getRel().value().equals(rel)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int countFrom(List<Link> links, int index, String rel) {
+        int count = 0;
+        for(int i = index; i < links.size(); i++) {
+            if(links.get(i).getRel().value().equals(rel)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
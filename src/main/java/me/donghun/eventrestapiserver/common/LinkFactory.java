@@ -0,0 +1,87 @@
+package me.donghun.eventrestapiserver.common;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+// linkTo(...) 는 링크마다 컨트롤러 매핑을 찾고 URI 를 새로 조립한다.
+// 여기서는 매핑 경로는 상수로 한 번만 구하고, 요청의 base URI(scheme, host, forwarded 헤더, context path 반영)는
+// 요청당 한 번만 계산해서 나머지는 문자열 연결로 링크를 만든다
+public final class LinkFactory {
+
+    private static final String BASE_URI_ATTRIBUTE = LinkFactory.class.getName() + ".BASE_URI";
+    // 서블릿 요청이 없는 WebFlux 에서 withBaseUri 로 정한 base URI
+    private static final ThreadLocal<String> REACTIVE_BASE_URI = new ThreadLocal<>();
+
+    private LinkFactory() {
+    }
+
+    public static String mappedPath(Class<?> controller) {
+        return mappedPath((AnnotatedElement) controller);
+    }
+
+    public static String mappedPath(Class<?> controller, String methodName) {
+        Method method = ReflectionUtils.findMethod(controller, methodName);
+        if(method == null) {
+            throw new IllegalArgumentException("no method " + methodName + " on " + controller.getName());
+        }
+        return mappedPath(controller) + mappedPath(method);
+    }
+
+    public static String href(String path) {
+        return baseUri() + path;
+    }
+
+    public static String href(String path, Object id) {
+        return baseUri() + path + "/" + id;
+    }
+
+    // 요청 밖(백그라운드 작업 등)에서는 상대 경로로 만든다
+    public static String baseUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if(!(attributes instanceof ServletRequestAttributes)) {
+            String reactiveBaseUri = REACTIVE_BASE_URI.get();
+            return reactiveBaseUri == null ? "" : reactiveBaseUri;
+        }
+
+        String baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if(baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+
+    // WebFlux 는 요청이 스레드에 묶여있지 않으므로, 링크를 만드는 동안만 base URI 를 정해둔다
+    public static <T> T withBaseUri(String baseUri, Supplier<T> supplier) {
+        String outer = REACTIVE_BASE_URI.get();
+        REACTIVE_BASE_URI.set(baseUri);
+        try {
+            return supplier.get();
+        } finally {
+            if(outer == null) {
+                REACTIVE_BASE_URI.remove();
+            }
+            else {
+                REACTIVE_BASE_URI.set(outer);
+            }
+        }
+    }
+
+    private static String mappedPath(AnnotatedElement element) {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(element, RequestMapping.class);
+        if(mapping == null || mapping.path().length == 0) {
+            return "";
+        }
+        return mapping.path()[0];
+    }
+
+}
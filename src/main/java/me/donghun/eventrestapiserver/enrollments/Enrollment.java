@@ -0,0 +1,27 @@
+package me.donghun.eventrestapiserver.enrollments;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@Getter @EqualsAndHashCode(of = "id")
+@Entity
+@Table(indexes = @Index(name = "idx_enrollment_event_id", columnList = "eventId"))
+public class Enrollment {
+
+    // write-behind로 모아서 insert 하므로 Event와 같이 시퀀스를 50개 단위로 가져온다
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollment_seq")
+    @SequenceGenerator(name = "enrollment_seq", sequenceName = "enrollment_seq", allocationSize = 50)
+    private Long id;
+    private Integer eventId;
+    private LocalDateTime enrolledAt;
+
+    public Enrollment(Integer eventId, LocalDateTime enrolledAt) {
+        this.eventId = eventId;
+        this.enrolledAt = enrolledAt;
+    }
+
+}
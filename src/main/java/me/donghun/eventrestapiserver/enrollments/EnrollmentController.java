@@ -0,0 +1,61 @@
+package me.donghun.eventrestapiserver.enrollments;
+
+import me.donghun.eventrestapiserver.common.ErrorsModel;
+import me.donghun.eventrestapiserver.events.Event;
+import me.donghun.eventrestapiserver.events.EventRepository;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Optional;
+
+@Controller
+@RequestMapping(value = "/api/events/{eventId}/enrollments", produces = MediaTypes.HAL_JSON_VALUE)
+public class EnrollmentController {
+
+    private final EventRepository eventRepository;
+    private final EnrollmentCounter enrollmentCounter;
+    private final EnrollmentWriter enrollmentWriter;
+
+    public EnrollmentController(EventRepository eventRepository, EnrollmentCounter enrollmentCounter,
+                                EnrollmentWriter enrollmentWriter) {
+        this.eventRepository = eventRepository;
+        this.enrollmentCounter = enrollmentCounter;
+        this.enrollmentWriter = enrollmentWriter;
+    }
+
+    // 자리 확인과 차감은 메모리에서 하고, 저장은 EnrollmentWriter가 나중에 모아서 하므로 202로 응답
+    @PostMapping
+    public ResponseEntity createEnrollment(@PathVariable Integer eventId) {
+        Optional<Event> optionalEvent = eventRepository.findCachedById(eventId);
+        if(optionalEvent.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        if(!enrollmentCounter.tryAcquire(eventId, optionalEvent.get().getLimitOfEnrollment())) {
+            Errors errors = new MapBindingResult(new HashMap<>(), "enrollment");
+            errors.reject("limitOfEnrollment", "limitOfEnrollment reached");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorsModel(errors));
+        }
+
+        Enrollment enrollment = new Enrollment(eventId, LocalDateTime.now());
+        if(!enrollmentWriter.enqueue(enrollment)) {
+            enrollmentCounter.release(eventId);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        EnrollmentModel enrollmentModel = new EnrollmentModel(enrollment);
+        enrollmentModel.add(Link.of("/docs/index.html#resources-enrollments-create").withRel("profile"));
+        return ResponseEntity.accepted().body(enrollmentModel);
+    }
+
+}
@@ -0,0 +1,9 @@
+package me.donghun.eventrestapiserver.enrollments;
+
+public interface EnrollmentCount {
+
+    Integer getEventId();
+
+    long getTotal();
+
+}
@@ -0,0 +1,62 @@
+package me.donghun.eventrestapiserver.enrollments;
+
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 이벤트별 참가 인원을 메모리에 들고 있으면서 limitOfEnrollment를 넘지 않게 자리를 내준다.
+// 신청마다 DB를 세지 않으며, 시작할 때 DB에 저장된 참가 인원으로 다시 만든다
+@Component
+public class EnrollmentCounter {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final Map<Integer, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+    public EnrollmentCounter(EnrollmentRepository enrollmentRepository) {
+        this.enrollmentRepository = enrollmentRepository;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        counts.clear();
+        for(EnrollmentCount count : enrollmentRepository.countGroupByEventId()) {
+            counts.put(count.getEventId(), new AtomicInteger((int) count.getTotal()));
+        }
+    }
+
+    // 자리가 있으면 인원을 하나 늘리고 true. limit이 0이면 인원 제한이 없다
+    public boolean tryAcquire(Integer eventId, int limit) {
+        AtomicInteger count = counts.computeIfAbsent(eventId, id -> new AtomicInteger());
+        if(limit <= 0) {
+            count.incrementAndGet();
+            return true;
+        }
+
+        while(true) {
+            int current = count.get();
+            if(current >= limit) {
+                return false;
+            }
+            if(count.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // tryAcquire로 얻은 자리를 저장하지 못한 경우 되돌린다
+    public void release(Integer eventId) {
+        AtomicInteger count = counts.get(eventId);
+        if(count != null) {
+            count.decrementAndGet();
+        }
+    }
+
+    public int count(Integer eventId) {
+        AtomicInteger count = counts.get(eventId);
+        return count == null ? 0 : count.get();
+    }
+
+}
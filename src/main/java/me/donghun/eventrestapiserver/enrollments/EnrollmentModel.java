@@ -0,0 +1,28 @@
+package me.donghun.eventrestapiserver.enrollments;
+
+import me.donghun.eventrestapiserver.events.EventLinks;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.time.LocalDateTime;
+
+public class EnrollmentModel extends RepresentationModel<EnrollmentModel> {
+
+    private final Integer eventId;
+    private final LocalDateTime enrolledAt;
+
+    public EnrollmentModel(Enrollment enrollment) {
+        this.eventId = enrollment.getEventId();
+        this.enrolledAt = enrollment.getEnrolledAt();
+        add(Link.of(EventLinks.eventHref(eventId)).withRel("event"));
+    }
+
+    public Integer getEventId() {
+        return eventId;
+    }
+
+    public LocalDateTime getEnrolledAt() {
+        return enrolledAt;
+    }
+
+}
@@ -0,0 +1,15 @@
+package me.donghun.eventrestapiserver.enrollments;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+
+    long countByEventId(Integer eventId);
+
+    @Query("select e.eventId as eventId, count(e) as total from Enrollment e group by e.eventId")
+    List<EnrollmentCount> countGroupByEventId();
+
+}
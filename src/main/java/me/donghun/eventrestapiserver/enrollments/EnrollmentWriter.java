@@ -0,0 +1,152 @@
+package me.donghun.eventrestapiserver.enrollments;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 참가 신청을 요청 스레드에서 바로 insert 하지 않고 큐에 모아서 별도 스레드가 batch insert 한다(write-behind).
+// 큐가 가득 차면 enqueue가 false를 돌려주므로 호출하는 쪽에서 자리를 되돌려야 한다.
+// 저장에 실패한 batch 는 간격을 늘려가며 다시 시도하고, 끝내 실패하면 자리를 되돌리고 failed 지표에 센다
+@Component
+public class EnrollmentWriter {
+
+    public static final String FAILED_METRIC_NAME = "enrollments.write-behind.failed";
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentWriter.class);
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentCounter enrollmentCounter;
+    private final Counter failedCounter;
+    private final BlockingQueue<Enrollment> queue;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private volatile boolean running = true;
+
+    public EnrollmentWriter(EnrollmentRepository enrollmentRepository, EnrollmentCounter enrollmentCounter,
+                            MeterRegistry meterRegistry,
+                            @Value("${enrollments.write-behind.queue-capacity:100000}") int queueCapacity,
+                            @Value("${enrollments.write-behind.batch-size:500}") int batchSize,
+                            @Value("${enrollments.write-behind.poll-interval:100ms}") Duration pollInterval,
+                            @Value("${enrollments.write-behind.max-attempts:5}") int maxAttempts,
+                            @Value("${enrollments.write-behind.retry-backoff:200ms}") Duration retryBackoff) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.enrollmentCounter = enrollmentCounter;
+        this.failedCounter = Counter.builder(FAILED_METRIC_NAME)
+                .description("accepted enrollments given up after all write attempts failed")
+                .register(meterRegistry);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollInterval.toMillis();
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoff.toMillis();
+    }
+
+    @PostConstruct
+    public void start() {
+        executor.execute(this::drainLoop);
+    }
+
+    public boolean enqueue(Enrollment enrollment) {
+        return running && queue.offer(enrollment);
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    // 저장하는 동안 쌓인 만큼 한 번에 가져가므로, 신청이 몰릴수록 batch가 커진다
+    private void drainLoop() {
+        List<Enrollment> batch = new ArrayList<>(batchSize);
+        while(running) {
+            try {
+                Enrollment first = queue.poll(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                if(first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+                if(Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // saveAll 은 한 트랜잭션이므로 batch 는 전부 저장되거나 전부 안 된다
+    private void write(List<Enrollment> batch) {
+        try {
+            long backoffMillis = retryBackoffMillis;
+            for(int attempt = 1; ; attempt++) {
+                try {
+                    enrollmentRepository.saveAll(batch);
+                    return;
+                } catch (Exception e) {
+                    if(attempt >= maxAttempts) {
+                        giveUp(batch, e);
+                        return;
+                    }
+                    log.warn("could not write {} enrollments (attempt {}/{}), retrying in {}ms",
+                            batch.size(), attempt, maxAttempts, backoffMillis, e);
+                }
+
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException e) {
+                    // 종료 중이면 더 기다리지 않는다. 인터럽트 상태는 drainLoop 가 보고 끝낸다
+                    Thread.currentThread().interrupt();
+                    giveUp(batch, e);
+                    return;
+                }
+                backoffMillis *= 2;
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+
+    // 이미 202로 접수한 신청이지만 저장하지 못했으므로, 메모리 인원이 DB보다 많아지지 않게 자리를 되돌린다
+    private void giveUp(List<Enrollment> batch, Exception cause) {
+        log.error("gave up writing {} enrollments after {} attempts", batch.size(), maxAttempts, cause);
+        for(Enrollment enrollment : batch) {
+            enrollmentCounter.release(enrollment.getEventId());
+        }
+        failedCounter.increment(batch.size());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if(!executor.awaitTermination(pollIntervalMillis * 10, TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+
+        // 종료 전에 남은 신청을 모두 저장한다
+        List<Enrollment> batch = new ArrayList<>(batchSize);
+        while(queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+        }
+    }
+
+}
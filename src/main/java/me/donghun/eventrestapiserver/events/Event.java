@@ -1,6 +1,8 @@
 package me.donghun.eventrestapiserver.events;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -8,9 +10,23 @@ import java.time.LocalDateTime;
 @Builder @AllArgsConstructor @NoArgsConstructor
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Entity
+@DynamicUpdate // 바뀐 컬럼만 UPDATE 한다 (PATCH로 일부만 바꾸는 경우)
+@Table(indexes = {
+        @Index(name = "idx_event_name_id", columnList = "name, id"),
+        // EventStatusScheduler 가 상태를 바꿀 시각이 다가온 이벤트만 구간으로 읽는다
+        @Index(name = "idx_event_status_begin_enrollment", columnList = "eventStatus, beginEnrollmentDateTime"),
+        @Index(name = "idx_event_status_close_enrollment", columnList = "eventStatus, closeEnrollmentDateTime"),
+        // 기간이 겹치는 이벤트 조회(?from=&to=&on=)
+        @Index(name = "idx_event_event_period", columnList = "beginEventDateTime, endEventDateTime"),
+        @Index(name = "idx_event_enrollment_period", columnList = "beginEnrollmentDateTime, closeEnrollmentDateTime")
+})
 public class Event {
 
-    @Id @GeneratedValue
+    // Spring Data @Id 는 reactive 스택(R2DBC)의 식별자용
+    // pooled optimizer: 시퀀스를 50개 단위로 한 번에 가져와서 insert마다 시퀀스 조회를 하지 않는다
+    @Id @org.springframework.data.annotation.Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = 50)
     private Integer id;
     private String name;
     private String description;
@@ -26,6 +42,8 @@ public class Event {
     private boolean free;
     @Enumerated(EnumType.STRING)
     private EventStatus eventStatus = EventStatus.DRAFT;
+    @Version @JsonIgnore
+    private Long version;
 
     public void update() {
         if(this.basePrice == 0 && this.maxPrice == 0) {
@@ -0,0 +1,31 @@
+package me.donghun.eventrestapiserver.events;
+
+import java.time.LocalDateTime;
+
+public interface EventAttributes {
+
+    Integer getId();
+
+    Long getVersion();
+
+    int getBasePrice();
+
+    int getMaxPrice();
+
+    int getLimitOfEnrollment();
+
+    boolean isFree();
+
+    boolean isOffline();
+
+    EventStatus getEventStatus();
+
+    LocalDateTime getBeginEnrollmentDateTime();
+
+    LocalDateTime getCloseEnrollmentDateTime();
+
+    LocalDateTime getBeginEventDateTime();
+
+    LocalDateTime getEndEventDateTime();
+
+}
@@ -0,0 +1,49 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.Errors;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventBatchItemModel extends RepresentationModel<EventBatchItemModel> {
+
+    private final int index;
+    private final int status;
+    private final Integer id;
+    private final Errors errors;
+
+    private EventBatchItemModel(int index, HttpStatus status, Integer id, Errors errors) {
+        this.index = index;
+        this.status = status.value();
+        this.id = id;
+        this.errors = errors;
+    }
+
+    public static EventBatchItemModel created(int index, Event event) {
+        EventBatchItemModel model = new EventBatchItemModel(index, HttpStatus.CREATED, event.getId(), null);
+        model.add(EventLinks.self(event.getId()));
+        return model;
+    }
+
+    public static EventBatchItemModel rejected(int index, Errors errors) {
+        return new EventBatchItemModel(index, HttpStatus.BAD_REQUEST, null, errors);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public Errors getErrors() {
+        return errors;
+    }
+
+}
@@ -0,0 +1,38 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+// 여러 이벤트를 한 트랜잭션에서 JDBC batch insert 한다.
+// batch_size 단위로 flush/clear 해서 영속성 컨텍스트가 커지지 않게 한다
+@Component
+public class EventBatchWriter {
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public EventBatchWriter(EntityManager entityManager,
+                            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public List<Event> insertAll(List<Event> events) {
+        for(int i = 0; i < events.size(); i++) {
+            entityManager.persist(events.get(i));
+            if((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return events;
+    }
+
+}
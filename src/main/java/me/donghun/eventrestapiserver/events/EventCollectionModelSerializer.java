@@ -0,0 +1,74 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import me.donghun.eventrestapiserver.common.HalLinksWriter;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.PagedModel;
+
+import java.io.IOException;
+
+// EventModel 목록(CollectionModel, PagedModel)을 _embedded, _links, page 순서로 한 번에 쓴다.
+// EventModel 이 아닌 내용이 섞였거나 비어있으면 기본 HAL 직렬화를 사용한다
+public class EventCollectionModelSerializer extends StdSerializer<CollectionModel<?>> {
+
+    static final String COLLECTION_REL = "eventModelList";
+
+    private final JsonSerializer<Object> defaultSerializer;
+    private final EventModelSerializer eventModelSerializer;
+
+    @SuppressWarnings("unchecked")
+    public EventCollectionModelSerializer(JsonSerializer<Object> defaultSerializer, EventModelSerializer eventModelSerializer) {
+        super((Class<CollectionModel<?>>) (Class<?>) CollectionModel.class);
+        this.defaultSerializer = defaultSerializer;
+        this.eventModelSerializer = eventModelSerializer;
+    }
+
+    @Override
+    public void serialize(CollectionModel<?> collectionModel, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if(!isEventModels(collectionModel)) {
+            defaultSerializer.serialize(collectionModel, gen, provider);
+            return;
+        }
+
+        gen.writeStartObject(collectionModel);
+        gen.writeFieldName("_embedded");
+        gen.writeStartObject();
+        gen.writeArrayFieldStart(COLLECTION_REL);
+        for(Object content : collectionModel.getContent()) {
+            eventModelSerializer.serialize((EventModel) content, gen, provider);
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+
+        HalLinksWriter.write(collectionModel.getLinks(), gen);
+
+        if(collectionModel instanceof PagedModel) {
+            PagedModel.PageMetadata metadata = ((PagedModel<?>) collectionModel).getMetadata();
+            if(metadata != null) {
+                gen.writeObjectFieldStart("page");
+                gen.writeNumberField("size", metadata.getSize());
+                gen.writeNumberField("totalElements", metadata.getTotalElements());
+                gen.writeNumberField("totalPages", metadata.getTotalPages());
+                gen.writeNumberField("number", metadata.getNumber());
+                gen.writeEndObject();
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    private boolean isEventModels(CollectionModel<?> collectionModel) {
+        if(collectionModel.getContent().isEmpty() || !HalLinksWriter.isSimple(collectionModel.getLinks())) {
+            return false;
+        }
+        for(Object content : collectionModel.getContent()) {
+            if(!(content instanceof EventModel) || !HalLinksWriter.isSimple(((EventModel) content).getLinks())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
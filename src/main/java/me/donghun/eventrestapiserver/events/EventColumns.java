@@ -0,0 +1,289 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+// 속성 조건 조회(GET /api/events/filter)용 메모리 읽기 모델 (events.columns.enabled=true 일 때만 사용).
+// 이벤트 한 건을 객체로 두지 않고 속성마다 primitive 배열(boolean 은 BitSet)에 행 단위로 나눠 담는다.
+// 조회는 행을 구간으로 나눠 병렬로 훑으며, 행마다 객체를 만들거나 boxing 하지 않는다.
+// 시작할 때 DB에서 chunk 단위로 읽고, 이후에는 EventsChangedEvent 로 이벤트 단위로 갱신한다
+@Component
+public class EventColumns {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int SCAN_CHUNK_SIZE = 16 * 1024;
+    private static final int BEGIN_ENROLLMENT = 0;
+    private static final int CLOSE_ENROLLMENT = 1;
+    private static final int BEGIN_EVENT = 2;
+    private static final int END_EVENT = 3;
+    private static final int DATE_COLUMNS = 4;
+    // 날짜가 비어있음
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final byte NO_STATUS = -1;
+    // Condition 의 boolean 조건이 없음
+    private static final byte ANY = -1;
+
+    private final EventRepository eventRepository;
+    private final boolean enabled;
+    private final int rebuildChunkSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 이벤트 id -> 행 번호. 갱신할 때만 사용한다
+    private final Map<Integer, Integer> rows = new HashMap<>();
+    private int size;
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private int[] basePrices = new int[INITIAL_CAPACITY];
+    private int[] maxPrices = new int[INITIAL_CAPACITY];
+    private int[] limitsOfEnrollment = new int[INITIAL_CAPACITY];
+    private final BitSet free = new BitSet();
+    private final BitSet offline = new BitSet();
+    // EventStatus 의 ordinal
+    private byte[] eventStatuses = new byte[INITIAL_CAPACITY];
+    // epoch millis (UTC 기준, EventIntervalIndex 와 같음)
+    private final long[][] dates = new long[DATE_COLUMNS][INITIAL_CAPACITY];
+    private volatile boolean ready;
+
+    public EventColumns(EventRepository eventRepository,
+                        @Value("${events.columns.enabled:false}") boolean enabled,
+                        @Value("${events.columns.rebuild-chunk-size:5000}") int rebuildChunkSize) {
+        this.eventRepository = eventRepository;
+        this.enabled = enabled;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if(!enabled) {
+            return;
+        }
+
+        int afterId = Integer.MIN_VALUE;
+        List<EventAttributes> chunk;
+        do {
+            chunk = eventRepository.findAttributesAfter(afterId, PageRequest.of(0, rebuildChunkSize));
+            lock.writeLock().lock();
+            try {
+                for(EventAttributes attributes : chunk) {
+                    put(attributes.getId(), attributes.getVersion(), attributes.getBasePrice(), attributes.getMaxPrice(),
+                            attributes.getLimitOfEnrollment(), attributes.isFree(), attributes.isOffline(),
+                            attributes.getEventStatus(), attributes.getBeginEnrollmentDateTime(),
+                            attributes.getCloseEnrollmentDateTime(), attributes.getBeginEventDateTime(),
+                            attributes.getEndEventDateTime());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if(!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while(chunk.size() == rebuildChunkSize);
+        ready = true;
+    }
+
+    @EventListener
+    public void onEventsChanged(EventsChangedEvent changedEvent) {
+        if(!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for(Event event : changedEvent.getEvents()) {
+                put(event.getId(), event.getVersion(), event.getBasePrice(), event.getMaxPrice(),
+                        event.getLimitOfEnrollment(), event.isFree(), event.isOffline(), event.getEventStatus(),
+                        event.getBeginEnrollmentDateTime(), event.getCloseEnrollmentDateTime(),
+                        event.getBeginEventDateTime(), event.getEndEventDateTime());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 조건에 맞는 이벤트 id (id 순서). 꺼져 있거나 아직 다 읽지 않았으면 empty
+    public Optional<int[]> filter(EventFilter filter) {
+        if(!enabled || !ready) {
+            return Optional.empty();
+        }
+
+        Condition condition = new Condition(filter);
+        lock.readLock().lock();
+        try {
+            int rowCount = size;
+            int chunkCount = (rowCount + SCAN_CHUNK_SIZE - 1) / SCAN_CHUNK_SIZE;
+            int[][] matches = new int[chunkCount][];
+            IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+                int from = chunk * SCAN_CHUNK_SIZE;
+                matches[chunk] = scan(condition, from, Math.min(from + SCAN_CHUNK_SIZE, rowCount));
+            });
+
+            int total = 0;
+            for(int[] chunkMatches : matches) {
+                total += chunkMatches.length;
+            }
+            int[] eventIds = new int[total];
+            int offset = 0;
+            for(int[] chunkMatches : matches) {
+                System.arraycopy(chunkMatches, 0, eventIds, offset, chunkMatches.length);
+                offset += chunkMatches.length;
+            }
+            // 행은 대체로 id 순서지만 여러 노드에서 만든 이벤트가 섞이면 아닐 수 있다
+            Arrays.sort(eventIds);
+            return Optional.of(eventIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] scan(Condition condition, int from, int to) {
+        int[] matches = new int[to - from];
+        int count = 0;
+        for(int row = from; row < to; row++) {
+            if(matches(condition, row)) {
+                matches[count++] = ids[row];
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private boolean matches(Condition condition, int row) {
+        if(condition.free != ANY && free.get(row) != (condition.free == 1)
+                || condition.offline != ANY && offline.get(row) != (condition.offline == 1)
+                || condition.eventStatus != NO_STATUS && eventStatuses[row] != condition.eventStatus
+                || basePrices[row] < condition.basePriceFrom || basePrices[row] > condition.basePriceTo
+                || maxPrices[row] < condition.maxPriceFrom || maxPrices[row] > condition.maxPriceTo
+                || limitsOfEnrollment[row] < condition.limitOfEnrollmentFrom
+                || limitsOfEnrollment[row] > condition.limitOfEnrollmentTo) {
+            return false;
+        }
+        for(int column = 0; column < DATE_COLUMNS; column++) {
+            if(condition.dateBounded[column]) {
+                long date = dates[column][row];
+                if(date == NO_DATE || date < condition.dateFrom[column] || date >= condition.dateTo[column]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // 이미 더 새 버전이 들어와 있으면 건너뛴다
+    private void put(Integer eventId, Long version, int basePrice, int maxPrice, int limitOfEnrollment,
+                     boolean isFree, boolean isOffline, EventStatus eventStatus,
+                     LocalDateTime beginEnrollment, LocalDateTime closeEnrollment,
+                     LocalDateTime beginEvent, LocalDateTime endEvent) {
+        long rowVersion = version == null ? 0 : version;
+        Integer existing = rows.get(eventId);
+        int row;
+        if(existing == null) {
+            row = size++;
+            ensureCapacity(size);
+            rows.put(eventId, row);
+        }
+        else {
+            row = existing;
+            if(versions[row] > rowVersion) {
+                return;
+            }
+        }
+
+        ids[row] = eventId;
+        versions[row] = rowVersion;
+        basePrices[row] = basePrice;
+        maxPrices[row] = maxPrice;
+        limitsOfEnrollment[row] = limitOfEnrollment;
+        free.set(row, isFree);
+        offline.set(row, isOffline);
+        eventStatuses[row] = eventStatus == null ? NO_STATUS : (byte) eventStatus.ordinal();
+        dates[BEGIN_ENROLLMENT][row] = toMillis(beginEnrollment);
+        dates[CLOSE_ENROLLMENT][row] = toMillis(closeEnrollment);
+        dates[BEGIN_EVENT][row] = toMillis(beginEvent);
+        dates[END_EVENT][row] = toMillis(endEvent);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if(capacity <= ids.length) {
+            return;
+        }
+        int grown = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, grown);
+        versions = Arrays.copyOf(versions, grown);
+        basePrices = Arrays.copyOf(basePrices, grown);
+        maxPrices = Arrays.copyOf(maxPrices, grown);
+        limitsOfEnrollment = Arrays.copyOf(limitsOfEnrollment, grown);
+        eventStatuses = Arrays.copyOf(eventStatuses, grown);
+        for(int column = 0; column < DATE_COLUMNS; column++) {
+            dates[column] = Arrays.copyOf(dates[column], grown);
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime == null ? NO_DATE : EventIntervalIndex.toMillis(dateTime);
+    }
+
+    // EventFilter 를 행 비교에 바로 쓸 수 있는 primitive 경계값으로 바꿔둔 것. 조건이 없으면 전체 범위
+    private static final class Condition {
+
+        private final byte free;
+        private final byte offline;
+        private final byte eventStatus;
+        private final int basePriceFrom;
+        private final int basePriceTo;
+        private final int maxPriceFrom;
+        private final int maxPriceTo;
+        private final int limitOfEnrollmentFrom;
+        private final int limitOfEnrollmentTo;
+        private final boolean[] dateBounded = new boolean[DATE_COLUMNS];
+        private final long[] dateFrom = new long[DATE_COLUMNS];
+        private final long[] dateTo = new long[DATE_COLUMNS];
+
+        private Condition(EventFilter filter) {
+            this.free = flag(filter.getFree());
+            this.offline = flag(filter.getOffline());
+            this.eventStatus = filter.getEventStatus() == null ? NO_STATUS : (byte) filter.getEventStatus().ordinal();
+            this.basePriceFrom = lower(filter.getBasePriceFrom());
+            this.basePriceTo = upper(filter.getBasePriceTo());
+            this.maxPriceFrom = lower(filter.getMaxPriceFrom());
+            this.maxPriceTo = upper(filter.getMaxPriceTo());
+            this.limitOfEnrollmentFrom = lower(filter.getLimitOfEnrollmentFrom());
+            this.limitOfEnrollmentTo = upper(filter.getLimitOfEnrollmentTo());
+            bound(BEGIN_ENROLLMENT, filter.getBeginEnrollmentFrom(), filter.getBeginEnrollmentTo());
+            bound(CLOSE_ENROLLMENT, filter.getCloseEnrollmentFrom(), filter.getCloseEnrollmentTo());
+            bound(BEGIN_EVENT, filter.getBeginEventFrom(), filter.getBeginEventTo());
+            bound(END_EVENT, filter.getEndEventFrom(), filter.getEndEventTo());
+        }
+
+        private void bound(int column, LocalDateTime from, LocalDateTime to) {
+            dateBounded[column] = from != null || to != null;
+            dateFrom[column] = from == null ? Long.MIN_VALUE : EventIntervalIndex.toMillis(from);
+            dateTo[column] = to == null ? Long.MAX_VALUE : EventIntervalIndex.toMillis(to);
+        }
+
+        private static byte flag(Boolean value) {
+            return value == null ? ANY : (byte) (value ? 1 : 0);
+        }
+
+        private static int lower(Integer value) {
+            return value == null ? Integer.MIN_VALUE : value;
+        }
+
+        private static int upper(Integer value) {
+            return value == null ? Integer.MAX_VALUE : value;
+        }
+
+    }
+
+}
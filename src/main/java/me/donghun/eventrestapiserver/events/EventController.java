@@ -1,37 +1,84 @@
 package me.donghun.eventrestapiserver.events;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import me.donghun.eventrestapiserver.common.BinaryHalConfiguration;
 import me.donghun.eventrestapiserver.common.ErrorsModel;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.validation.Valid;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-
 @Controller
-@RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_VALUE)
+// 서비스 간 호출은 Accept 로 CBOR, Smile 을 고를 수 있다 (BinaryHalConfiguration)
+@RequestMapping(value = "/api/events",
+        produces = {MediaTypes.HAL_JSON_VALUE, BinaryHalConfiguration.CBOR_VALUE, BinaryHalConfiguration.SMILE_VALUE})
 public class EventController {
 
+    private static final int MAX_KEYSET_SIZE = 2000;
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final EventRepository eventRepository;
-    private final ModelMapper modelMapper;
+    private final EventMapper eventMapper;
     private final EventValidator eventValidator;
+    private final EventCounter eventCounter;
+    private final EventBatchWriter eventBatchWriter;
+    private final EventExporter eventExporter;
+    private final EventPatcher eventPatcher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventIntervalIndex eventIntervalIndex;
+    private final EventProjections eventProjections;
+    private final HateoasPageableHandlerMethodArgumentResolver pageableResolver;
+    private final int maxBatchSize;
 
-    public EventController(EventRepository eventRepository, ModelMapper modelMapper, EventValidator eventValidator) {
+    public EventController(EventRepository eventRepository, EventMapper eventMapper, EventValidator eventValidator,
+                           EventCounter eventCounter, EventBatchWriter eventBatchWriter, EventExporter eventExporter,
+                           EventPatcher eventPatcher, ApplicationEventPublisher eventPublisher,
+                           EventIntervalIndex eventIntervalIndex, EventProjections eventProjections,
+                           HateoasPageableHandlerMethodArgumentResolver pageableResolver,
+                           @Value("${events.batch.max-size:1000}") int maxBatchSize) {
         this.eventRepository = eventRepository;
-        this.modelMapper = modelMapper;
+        this.eventMapper = eventMapper;
         this.eventValidator = eventValidator;
+        this.eventCounter = eventCounter;
+        this.eventBatchWriter = eventBatchWriter;
+        this.eventExporter = eventExporter;
+        this.eventPatcher = eventPatcher;
+        this.eventPublisher = eventPublisher;
+        this.eventIntervalIndex = eventIntervalIndex;
+        this.eventProjections = eventProjections;
+        this.pageableResolver = pageableResolver;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @PostMapping
@@ -45,49 +92,229 @@ public class EventController {
             return ResponseEntity.badRequest().body(new ErrorsModel(errors));
         }
 
-        Event event = modelMapper.map(eventDto, Event.class);
+        Event event = eventMapper.toEvent(eventDto);
         // TODO EventService
         event.update();
         Event newEvent = eventRepository.save(event);
-        WebMvcLinkBuilder selfLinkBuilder = linkTo(EventController.class).slash(newEvent.getId());
-        URI createdUri = selfLinkBuilder.toUri();
+        eventPublisher.publishEvent(EventsChangedEvent.created(newEvent));
+        URI createdUri = URI.create(EventLinks.eventHref(newEvent.getId()));
         EventModel eventModel = new EventModel(event);
-        eventModel.add(linkTo(EventController.class).withRel("query"));
-        eventModel.add(selfLinkBuilder.withRel("update"));
+        eventModel.add(EventLinks.query());
+        eventModel.add(EventLinks.update(newEvent.getId()));
         eventModel.add(Link.of("/docs/index.html#resources-events-create").withRel("profile"));
-        return ResponseEntity.created(createdUri).body(eventModel);
+        return ResponseEntity.created(createdUri).eTag(EventETags.of(newEvent)).body(eventModel);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity createEventsBatch(@RequestBody List<EventDto> eventDtos) {
+        if(eventDtos.size() > maxBatchSize) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+
+        EventBatchItemModel[] results = new EventBatchItemModel[eventDtos.size()];
+        List<Integer> validIndexes = new ArrayList<>(eventDtos.size());
+        List<Event> validEvents = new ArrayList<>(eventDtos.size());
+        for(int i = 0; i < eventDtos.size(); i++) {
+            EventDto eventDto = eventDtos.get(i);
+            Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+            eventValidator.validateAll(eventDto, errors);
+            if(errors.hasErrors()) {
+                results[i] = EventBatchItemModel.rejected(i, errors);
+                continue;
+            }
+
+            Event event = eventMapper.toEvent(eventDto);
+            event.update();
+            validIndexes.add(i);
+            validEvents.add(event);
+        }
+
+        eventBatchWriter.insertAll(validEvents);
+        eventPublisher.publishEvent(EventsChangedEvent.created(validEvents));
+        for(int i = 0; i < validEvents.size(); i++) {
+            int index = validIndexes.get(i);
+            results[index] = EventBatchItemModel.created(index, validEvents.get(i));
+        }
+
+        CollectionModel<EventBatchItemModel> batchModel = CollectionModel.of(Arrays.asList(results));
+        batchModel.add(Link.of("/docs/index.html#resources-events-batch-create").withRel("profile"));
+        return ResponseEntity.ok(batchModel);
     }
 
     @GetMapping
-    public ResponseEntity getEventsList(Pageable pageable, PagedResourcesAssembler<Event> assembler) {
-        Page<Event> page = eventRepository.findAll(pageable);
-        PagedModel<EventModel> eventModels = assembler.toModel(page, EventModel::new);
+    public ResponseEntity getEventsList(Pageable pageable, PagedResourcesAssembler<Event> assembler, WebRequest request,
+                                        @RequestParam(required = false) String fields) {
+        EventFields eventFields;
+        try {
+            eventFields = fields == null ? null : EventFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String eTag = EventETags.of(eventCounter.eventsVersion(), pageable, eventFields);
+        if(request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        // 필드를 고르면 엔티티 대신 그 컬럼만 읽는다
+        Page<Event> page = eventFields == null ?
+                eventRepository.findAll(pageable) :
+                eventProjections.findAll(eventFields, pageable);
+        PagedModel<EventModel> eventModels;
+        if(eventFields == null) {
+            eventModels = assembler.toModel(page, EventModel::new);
+        }
+        else {
+            // 주어진 링크가 self 가 되고, 다른 페이지 링크는 여기서 page 만 바꾼다. fields 가 링크에 남아야 한다
+            UriComponentsBuilder builder = EventLinks.eventsUriBuilder();
+            pageableResolver.enhance(builder, null, pageable);
+            Link self = Link.of(builder.queryParam("fields", eventFields).build().toUriString());
+            eventModels = assembler.toModel(page, event -> new EventModel(event, eventFields), self);
+        }
         eventModels.add(Link.of("/docs/index.html#resources-events-list").withRel("profile"));
+        return ResponseEntity.ok().eTag(eTag).body(eventModels);
+    }
+
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<StreamingResponseBody> exportEvents(@RequestParam(defaultValue = "ndjson") String format) {
+        if("csv".equals(format)) {
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .body(eventExporter::writeCsv);
+        }
+        else if("ndjson".equals(format)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(eventExporter::writeNdjson);
+        }
+        return ResponseEntity.badRequest().build();
+    }
+
+    // 커서 기반 조회는 전체 개수를 세지 않으므로 after 가 같이 오면 count 는 무시하고 getEventsListAfter 가 처리한다
+    @GetMapping(params = {"count", "!after"})
+    public ResponseEntity getEventsSlice(Pageable pageable, @RequestParam String count) {
+        boolean approximate = "approximate".equals(count);
+        if(!approximate && !"none".equals(count)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Slice<Event> slice = eventRepository.findSliceBy(pageable);
+        CollectionModel<EventModel> eventModels = CollectionModel.of(slice.map(EventModel::new).getContent());
+        eventModels.add(sliceLink(slice.getPageable(), count).withSelfRel());
+        if(slice.hasPrevious()) {
+            eventModels.add(sliceLink(slice.previousPageable(), count).withRel(IanaLinkRelations.PREV));
+        }
+        if(slice.hasNext()) {
+            eventModels.add(sliceLink(slice.nextPageable(), count).withRel(IanaLinkRelations.NEXT));
+        }
+        eventModels.add(Link.of("/docs/index.html#resources-events-slice-list").withRel("profile"));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if(approximate) {
+            response.header(TOTAL_COUNT_HEADER, String.valueOf(eventCounter.approximateTotal()));
+        }
+        return response.body(eventModels);
+    }
+
+    @GetMapping(params = {"from", "to"})
+    public ResponseEntity getEventsOverlapping(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                               @RequestParam(defaultValue = "event") String on,
+                                               Pageable pageable, PagedResourcesAssembler<Event> assembler) {
+        EventIntervalIndex.Period period;
+        if("event".equals(on)) {
+            period = EventIntervalIndex.Period.EVENT;
+        }
+        else if("enrollment".equals(on)) {
+            period = EventIntervalIndex.Period.ENROLLMENT;
+        }
+        else {
+            return ResponseEntity.badRequest().build();
+        }
+        if(!from.isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 정렬은 항상 시작 시각, id 순서
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<Event> page = eventIntervalIndex.findOverlapping(period, from, to)
+                .map(ids -> eventRepository.findCachedPage(ids, unsorted))
+                .orElseGet(() -> period == EventIntervalIndex.Period.EVENT ?
+                        eventRepository.findEventPeriodOverlapping(from, to, unsorted) :
+                        eventRepository.findEnrollmentPeriodOverlapping(from, to, unsorted));
+        PagedModel<EventModel> eventModels = assembler.toModel(page, EventModel::new);
+        eventModels.add(Link.of("/docs/index.html#resources-events-overlap-list").withRel("profile"));
+        return ResponseEntity.ok(eventModels);
+    }
+
+    @GetMapping(params = "after")
+    public ResponseEntity getEventsListAfter(@RequestParam String after,
+                                             @RequestParam(defaultValue = "20") int size) {
+        EventCursor cursor;
+        try {
+            cursor = after.isEmpty() ? null : EventCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(size, MAX_KEYSET_SIZE)));
+        Slice<Event> slice = cursor == null ?
+                eventRepository.findFirstKeysetSlice(pageable) :
+                eventRepository.findKeysetSliceAfter(cursor, pageable);
+
+        List<EventModel> content = slice.map(EventModel::new).getContent();
+        CollectionModel<EventModel> eventModels = CollectionModel.of(content);
+        eventModels.add(keysetLink(after, pageable.getPageSize()).withSelfRel());
+        if(slice.hasNext()) {
+            Event last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            eventModels.add(keysetLink(EventCursor.of(last).encode(), pageable.getPageSize()).withRel(IanaLinkRelations.NEXT));
+        }
+        eventModels.add(Link.of("/docs/index.html#resources-events-keyset-list").withRel("profile"));
         return ResponseEntity.ok(eventModels);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity getEvents(@PathVariable Integer id) {
-        Optional<Event> optionalEvent = eventRepository.findById(id);
+    public ResponseEntity getEvents(@PathVariable Integer id, WebRequest request,
+                                    @RequestParam(required = false) String fields) {
+        EventFields eventFields;
+        try {
+            eventFields = fields == null ? null : EventFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 한 건 조회는 캐시된 엔티티가 DB 프로젝션보다 싸므로 필드를 골라도 캐시를 쓰고 직렬화만 줄인다
+        Optional<Event> optionalEvent = eventRepository.findCachedById(id);
         if(optionalEvent.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
-        else {
-            EventModel eventModel = new EventModel(optionalEvent.get());
-            eventModel.add(Link.of("/docs/index.html#resources-events-get").withRel("profile"));
-            return ResponseEntity.ok(eventModel);
+
+        Event event = optionalEvent.get();
+        String eTag = EventETags.of(event, eventFields);
+        // 변경이 없으면 EventModel을 만들거나 직렬화하지 않고 바로 304 응답
+        if(request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
         }
+
+        EventModel eventModel = new EventModel(event, eventFields);
+        eventModel.add(Link.of("/docs/index.html#resources-events-get").withRel("profile"));
+        return ResponseEntity.ok().eTag(eTag).body(eventModel);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity updateEvents(@RequestBody @Valid EventDto eventDto,
                                        Errors errors,
-                                       @PathVariable Integer id) {
+                                       @PathVariable Integer id,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Optional<Event> optionalEvent = eventRepository.findById(id);
         if(optionalEvent.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
+        else if(ifMatch != null && !EventETags.matches(ifMatch, EventETags.of(optionalEvent.get()))) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(EventETags.of(optionalEvent.get())).build();
+        }
+
         else if(errors.hasErrors()) {
             return ResponseEntity.badRequest().body(new ErrorsModel(errors));
         }
@@ -98,14 +325,63 @@ public class EventController {
         }
 
         Event existingEvent = optionalEvent.get();
-        modelMapper.map(eventDto, existingEvent);
+        eventMapper.update(eventDto, existingEvent);
         // TODO EventService
         existingEvent.update();
+        return saveUpdated(existingEvent, ifMatch, "/docs/index.html#resources-events-update");
+    }
+
+    @PatchMapping(value = "/{id}", consumes = EventPatcher.MERGE_PATCH_JSON_VALUE)
+    public ResponseEntity patchEvents(@RequestBody JsonNode patch,
+                                      @PathVariable Integer id,
+                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Optional<Event> optionalEvent = eventRepository.findById(id);
+        if(optionalEvent.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        else if(ifMatch != null && !EventETags.matches(ifMatch, EventETags.of(optionalEvent.get()))) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(EventETags.of(optionalEvent.get())).build();
+        }
+
+        Event existingEvent = optionalEvent.get();
+        Errors errors = eventPatcher.apply(patch, existingEvent);
+        if(errors.hasErrors()) {
+            return ResponseEntity.badRequest().body(new ErrorsModel(errors));
+        }
+
+        return saveUpdated(existingEvent, ifMatch, "/docs/index.html#resources-events-patch");
+    }
+
+    private ResponseEntity saveUpdated(Event existingEvent, String ifMatch, String profile) {
         // transaction이 아니기 때문에 dirty checking에 의해 write behind 되지 않아서 명시적으로 save 호출
-        Event updatedEvent = eventRepository.save(existingEvent);
+        // 조회 이후 다른 요청이 먼저 수정했다면 @Version 검사에 걸린다. If-Match를 보냈다면 412, 아니면 409
+        // 바뀐 것이 없으면 Hibernate 가 update 하지 않으므로 version 도 그대로다
+        long previousVersion = existingEvent.getVersion();
+        Event updatedEvent;
+        try {
+            updatedEvent = eventRepository.save(existingEvent);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT).build();
+        }
+        eventPublisher.publishEvent(EventsChangedEvent.updated(updatedEvent, updatedEvent.getVersion() - previousVersion));
         EventModel eventModel = new EventModel(updatedEvent);
-        eventModel.add(Link.of("/docs/index.html#resources-events-update").withRel("profile"));
-        return ResponseEntity.ok(eventModel);
+        eventModel.add(Link.of(profile).withRel("profile"));
+        return ResponseEntity.ok().eTag(EventETags.of(updatedEvent)).body(eventModel);
+    }
+
+    private Link sliceLink(Pageable pageable, String count) {
+        UriComponentsBuilder builder = EventLinks.eventsUriBuilder();
+        pageableResolver.enhance(builder, null, pageable);
+        return Link.of(builder.queryParam("count", count).build().toUriString());
+    }
+
+    private static Link keysetLink(String after, int size) {
+        String href = EventLinks.eventsUriBuilder()
+                .queryParam("after", after)
+                .queryParam("size", size)
+                .build().toUriString();
+        return Link.of(href);
     }
 
 }
@@ -0,0 +1,88 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 목록 조회마다 count(*), sum(version)을 하지 않도록 DB의 전체 이벤트 수와 version 합계를 메모리에 들고 있는다.
+// EventsChangedEvent(생성, 수정, 상태 스케줄러의 일괄 update)로 올리고,
+// 다른 경로(다른 노드 등)에서 생긴 오차는 refresh-interval 마다 DB에서 다시 맞춘다.
+// 이벤트는 지우지 않으므로 생성하면 개수가, 실제로 수정하면 version 합계가 늘어난다. 그래서 두 값이 같으면 같은 데이터이고,
+// 이 값으로 만든 목록 ETag 는 재시작한 뒤에도, 같은 DB를 보는 다른 노드(reactive 스택 포함)에서도 같다
+@Component
+public class EventCounter {
+
+    private final EventRepository eventRepository;
+    private final long refreshIntervalMillis;
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong versionSum = new AtomicLong();
+    private volatile long refreshedAt;
+
+    public EventCounter(EventRepository eventRepository,
+                        @Value("${events.count.refresh-interval:5m}") Duration refreshInterval) {
+        this.eventRepository = eventRepository;
+        this.refreshIntervalMillis = refreshInterval.toMillis();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh(true);
+    }
+
+    public long approximateTotal() {
+        refreshIfStale();
+        return total.get();
+    }
+
+    // 목록 ETag 용. EventRepository.findEventsVersion 과 같은 값이다
+    public EventsVersion eventsVersion() {
+        refreshIfStale();
+        long currentTotal = total.get();
+        long currentVersionSum = versionSum.get();
+        return new EventsVersion() {
+            @Override
+            public long getTotal() {
+                return currentTotal;
+            }
+
+            @Override
+            public long getVersionSum() {
+                return currentVersionSum;
+            }
+        };
+    }
+
+    @EventListener
+    public void onEventsChanged(EventsChangedEvent changedEvent) {
+        if(changedEvent.isCreated()) {
+            total.addAndGet(changedEvent.getEvents().size());
+            versionSum.addAndGet(changedEvent.getEvents().stream()
+                    .mapToLong(event -> event.getVersion() == null ? 0 : event.getVersion())
+                    .sum());
+        }
+        else {
+            versionSum.addAndGet(changedEvent.getVersionIncrease());
+        }
+    }
+
+    private void refreshIfStale() {
+        if(System.currentTimeMillis() - refreshedAt > refreshIntervalMillis) {
+            refresh(false);
+        }
+    }
+
+    private synchronized void refresh(boolean force) {
+        long now = System.currentTimeMillis();
+        if(force || now - refreshedAt > refreshIntervalMillis) {
+            EventsVersion eventsVersion = eventRepository.findEventsVersion();
+            total.set(eventsVersion.getTotal());
+            versionSum.set(eventsVersion.getVersionSum());
+            refreshedAt = now;
+        }
+    }
+
+}
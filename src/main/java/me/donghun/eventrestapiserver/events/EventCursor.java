@@ -0,0 +1,47 @@
+package me.donghun.eventrestapiserver.events;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class EventCursor {
+
+    private final String name;
+    private final Integer id;
+
+    public EventCursor(String name, Integer id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    public static EventCursor of(Event event) {
+        return new EventCursor(event.getName(), event.getId());
+    }
+
+    // 클라이언트에게는 내용을 알 수 없는 문자열로 전달한다 (id:name 을 base64url 인코딩)
+    public static EventCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            if(separator < 0) {
+                throw new IllegalArgumentException("invalid cursor: " + cursor);
+            }
+            return new EventCursor(decoded.substring(separator + 1), Integer.valueOf(decoded.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String raw = id + ":" + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+}
@@ -0,0 +1,45 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+// 이벤트 API 의 ETag. servlet(EventController)과 reactive(ReactiveEventController) 스택이 같은 값을 쓴다
+public final class EventETags {
+
+    private EventETags() {
+    }
+
+    public static String of(Event event) {
+        return "\"" + event.getId() + "-" + event.getVersion() + "\"";
+    }
+
+    // 필드를 고른 표현은 전체 표현과 ETag 가 달라야 한다
+    public static String of(Event event, EventFields fields) {
+        if(fields == null) {
+            return of(event);
+        }
+        return "\"" + event.getId() + "-" + event.getVersion() + "-" +
+                DigestUtils.md5DigestAsHex(fields.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // 목록은 약한 ETag. Tomcat 은 강한 ETag 가 붙은 응답을 압축하지 않는다 (압축하면 바이트가 달라지므로)
+    public static String of(EventsVersion eventsVersion, Pageable pageable, EventFields fields) {
+        String source = eventsVersion.getTotal() + ":" + eventsVersion.getVersionSum() + ":" + pageable +
+                (fields == null ? "" : ":" + fields);
+        return "W/\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // If-Match는 강한 비교만 허용하므로 W/ 로 시작하는 약한 ETag는 일치하지 않는다
+    public static boolean matches(String ifMatch, String eTag) {
+        for(String candidate : ifMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if(trimmed.equals("*") || trimmed.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,119 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// 전체 이벤트를 한 번에 메모리에 올리지 않고 DB 커서(Stream)로 한 건씩 읽어서 바로 써 내려간다.
+// 쓴 엔티티는 detach 해서 영속성 컨텍스트가 커지지 않게 한다
+@Component
+public class EventExporter {
+
+    private static final String CSV_HEADER = "id,name,description,beginEnrollmentDateTime,closeEnrollmentDateTime," +
+            "beginEventDateTime,endEventDateTime,location,basePrice,maxPrice,limitOfEnrollment,offline,free,eventStatus";
+
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter eventWriter;
+
+    public EventExporter(EventRepository eventRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.eventRepository = eventRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.eventWriter = objectMapper.writerFor(Event.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Transactional(readOnly = true)
+    public void writeNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+             Stream<Event> events = eventRepository.streamAllBy()) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 줄 구분은 직접 '\n' 으로 쓰므로 기본 구분자(공백)는 끈다
+            generator.setRootValueSeparator(null);
+            Iterator<Event> iterator = events.iterator();
+            while(iterator.hasNext()) {
+                Event event = iterator.next();
+                eventWriter.writeValue(generator, event);
+                generator.writeRaw('\n');
+                entityManager.detach(event);
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        try (Stream<Event> events = eventRepository.streamAllBy()) {
+            events.forEach(event -> {
+                try {
+                    writeCsvRow(writer, event);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                entityManager.detach(event);
+            });
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, Event event) throws IOException {
+        writer.write(String.valueOf(event.getId()));
+        writer.write(',');
+        writer.write(csv(event.getName()));
+        writer.write(',');
+        writer.write(csv(event.getDescription()));
+        writer.write(',');
+        writer.write(csv(event.getBeginEnrollmentDateTime()));
+        writer.write(',');
+        writer.write(csv(event.getCloseEnrollmentDateTime()));
+        writer.write(',');
+        writer.write(csv(event.getBeginEventDateTime()));
+        writer.write(',');
+        writer.write(csv(event.getEndEventDateTime()));
+        writer.write(',');
+        writer.write(csv(event.getLocation()));
+        writer.write(',');
+        writer.write(String.valueOf(event.getBasePrice()));
+        writer.write(',');
+        writer.write(String.valueOf(event.getMaxPrice()));
+        writer.write(',');
+        writer.write(String.valueOf(event.getLimitOfEnrollment()));
+        writer.write(',');
+        writer.write(String.valueOf(event.isOffline()));
+        writer.write(',');
+        writer.write(String.valueOf(event.isFree()));
+        writer.write(',');
+        writer.write(csv(event.getEventStatus()));
+        writer.write('\n');
+    }
+
+    private static String csv(Object value) {
+        if(value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if(text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+}
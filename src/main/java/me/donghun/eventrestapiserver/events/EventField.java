@@ -0,0 +1,66 @@
+package me.donghun.eventrestapiserver.events;
+
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+// ?fields= 로 고를 수 있는 Event 필드. 이름은 JSON 필드 이름이자 JPA 속성 이름이고, 선언 순서가 응답의 필드 순서이다
+public enum EventField {
+
+    ID("id", Event::getId, (event, value) -> event.setId((Integer) value)),
+    NAME("name", Event::getName, (event, value) -> event.setName((String) value)),
+    DESCRIPTION("description", Event::getDescription, (event, value) -> event.setDescription((String) value)),
+    BEGIN_ENROLLMENT_DATE_TIME("beginEnrollmentDateTime", Event::getBeginEnrollmentDateTime,
+            (event, value) -> event.setBeginEnrollmentDateTime((LocalDateTime) value)),
+    CLOSE_ENROLLMENT_DATE_TIME("closeEnrollmentDateTime", Event::getCloseEnrollmentDateTime,
+            (event, value) -> event.setCloseEnrollmentDateTime((LocalDateTime) value)),
+    BEGIN_EVENT_DATE_TIME("beginEventDateTime", Event::getBeginEventDateTime,
+            (event, value) -> event.setBeginEventDateTime((LocalDateTime) value)),
+    END_EVENT_DATE_TIME("endEventDateTime", Event::getEndEventDateTime,
+            (event, value) -> event.setEndEventDateTime((LocalDateTime) value)),
+    LOCATION("location", Event::getLocation, (event, value) -> event.setLocation((String) value)),
+    BASE_PRICE("basePrice", Event::getBasePrice, (event, value) -> event.setBasePrice((Integer) value)),
+    MAX_PRICE("maxPrice", Event::getMaxPrice, (event, value) -> event.setMaxPrice((Integer) value)),
+    LIMIT_OF_ENROLLMENT("limitOfEnrollment", Event::getLimitOfEnrollment,
+            (event, value) -> event.setLimitOfEnrollment((Integer) value)),
+    OFFLINE("offline", Event::isOffline, (event, value) -> event.setOffline((Boolean) value)),
+    FREE("free", Event::isFree, (event, value) -> event.setFree((Boolean) value)),
+    EVENT_STATUS("eventStatus", Event::getEventStatus, (event, value) -> event.setEventStatus((EventStatus) value));
+
+    static final EventField[] ALL = values();
+
+    private final String name;
+    private final Function<Event, Object> getter;
+    private final BiConsumer<Event, Object> setter;
+
+    EventField(String name, Function<Event, Object> getter, BiConsumer<Event, Object> setter) {
+        this.name = name;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public static EventField of(String name) {
+        for(EventField field : ALL) {
+            if(field.name.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("unknown field: " + name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    Object get(Event event) {
+        return getter.apply(event);
+    }
+
+    // 프로젝션 결과를 Event 에 채운다. null 이면 기본값을 그대로 둔다
+    void set(Event event, Object value) {
+        if(value != null) {
+            setter.accept(event, value);
+        }
+    }
+
+}
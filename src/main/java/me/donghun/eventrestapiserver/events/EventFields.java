@@ -0,0 +1,47 @@
+package me.donghun.eventrestapiserver.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// ?fields=id,name,eventStatus 로 고른 필드. self 링크를 만들어야 하므로 id 는 항상 들어간다
+public final class EventFields {
+
+    private final List<EventField> fields;
+    private final String value;
+
+    private EventFields(EnumSet<EventField> fields) {
+        this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+        this.value = this.fields.stream().map(EventField::getName).collect(Collectors.joining(","));
+    }
+
+    // 모르는 필드 이름이 있으면 IllegalArgumentException
+    public static EventFields parse(String fields) {
+        EnumSet<EventField> parsed = EnumSet.of(EventField.ID);
+        for(String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if(!trimmed.isEmpty()) {
+                parsed.add(EventField.of(trimmed));
+            }
+        }
+        return new EventFields(parsed);
+    }
+
+    // 선언 순서
+    public List<EventField> getFields() {
+        return fields;
+    }
+
+    public boolean contains(EventField field) {
+        return fields.contains(field);
+    }
+
+    // 정렬된 필드 이름 목록. ETag 계산에 사용한다
+    @Override
+    public String toString() {
+        return value;
+    }
+
+}
@@ -0,0 +1,97 @@
+package me.donghun.eventrestapiserver.events;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
+
+// GET /api/events/filter 의 조건. 값이 없는 조건은 적용하지 않는다.
+// 숫자 범위는 양 끝을 포함하고, 날짜 범위는 [from, to) 이며 날짜가 비어있는 이벤트는 날짜 조건에 걸리지 않는다
+@Getter @Setter
+public class EventFilter {
+
+    private Boolean free;
+    private Boolean offline;
+    private EventStatus eventStatus;
+    private Integer basePriceFrom;
+    private Integer basePriceTo;
+    private Integer maxPriceFrom;
+    private Integer maxPriceTo;
+    private Integer limitOfEnrollmentFrom;
+    private Integer limitOfEnrollmentTo;
+    @DateTimeFormat(iso = DATE_TIME)
+    private LocalDateTime beginEnrollmentFrom;
+    @DateTimeFormat(iso = DATE_TIME)
+    private LocalDateTime beginEnrollmentTo;
+    @DateTimeFormat(iso = DATE_TIME)
+    private LocalDateTime closeEnrollmentFrom;
+    @DateTimeFormat(iso = DATE_TIME)
+    private LocalDateTime closeEnrollmentTo;
+    @DateTimeFormat(iso = DATE_TIME)
+    private LocalDateTime beginEventFrom;
+    @DateTimeFormat(iso = DATE_TIME)
+    private LocalDateTime beginEventTo;
+    @DateTimeFormat(iso = DATE_TIME)
+    private LocalDateTime endEventFrom;
+    @DateTimeFormat(iso = DATE_TIME)
+    private LocalDateTime endEventTo;
+
+    // EventColumns 를 쓰지 않을 때의 DB 조회 조건
+    public Specification<Event> toSpecification() {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if(free != null) {
+                predicates.add(builder.equal(root.get("free"), free));
+            }
+            if(offline != null) {
+                predicates.add(builder.equal(root.get("offline"), offline));
+            }
+            if(eventStatus != null) {
+                predicates.add(builder.equal(root.get("eventStatus"), eventStatus));
+            }
+            if(basePriceFrom != null) {
+                predicates.add(builder.ge(root.get("basePrice"), basePriceFrom));
+            }
+            if(basePriceTo != null) {
+                predicates.add(builder.le(root.get("basePrice"), basePriceTo));
+            }
+            if(maxPriceFrom != null) {
+                predicates.add(builder.ge(root.get("maxPrice"), maxPriceFrom));
+            }
+            if(maxPriceTo != null) {
+                predicates.add(builder.le(root.get("maxPrice"), maxPriceTo));
+            }
+            if(limitOfEnrollmentFrom != null) {
+                predicates.add(builder.ge(root.get("limitOfEnrollment"), limitOfEnrollmentFrom));
+            }
+            if(limitOfEnrollmentTo != null) {
+                predicates.add(builder.le(root.get("limitOfEnrollment"), limitOfEnrollmentTo));
+            }
+            addDateRange(predicates, builder, root.get("beginEnrollmentDateTime"), beginEnrollmentFrom, beginEnrollmentTo);
+            addDateRange(predicates, builder, root.get("closeEnrollmentDateTime"), closeEnrollmentFrom, closeEnrollmentTo);
+            addDateRange(predicates, builder, root.get("beginEventDateTime"), beginEventFrom, beginEventTo);
+            addDateRange(predicates, builder, root.get("endEventDateTime"), endEventFrom, endEventTo);
+            return builder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static void addDateRange(List<Predicate> predicates, CriteriaBuilder builder,
+                                     Path<LocalDateTime> path, LocalDateTime from, LocalDateTime to) {
+        if(from != null) {
+            predicates.add(builder.greaterThanOrEqualTo(path, from));
+        }
+        if(to != null) {
+            predicates.add(builder.lessThan(path, to));
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@Controller
+@RequestMapping(value = "/api/events/filter", produces = MediaTypes.HAL_JSON_VALUE)
+public class EventFilterController {
+
+    private final EventColumns eventColumns;
+    private final EventRepository eventRepository;
+
+    public EventFilterController(EventColumns eventColumns, EventRepository eventRepository) {
+        this.eventColumns = eventColumns;
+        this.eventRepository = eventRepository;
+    }
+
+    @GetMapping
+    public ResponseEntity filterEvents(EventFilter filter, Pageable pageable, PagedResourcesAssembler<Event> assembler) {
+        // 정렬은 항상 id 순서. 메모리 읽기 모델을 쓸 수 없으면 DB에서 조회한다
+        PageRequest byId = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("id"));
+        Page<Event> page = eventColumns.filter(filter)
+                .map(eventIds -> eventRepository.findCachedPage(eventIds, byId))
+                .orElseGet(() -> eventRepository.findAll(filter.toSpecification(), byId));
+        PagedModel<EventModel> eventModels = assembler.toModel(page, EventModel::new);
+        eventModels.add(Link.of("/docs/index.html#resources-events-filter").withRel("profile"));
+        return ResponseEntity.ok(eventModels);
+    }
+
+}
@@ -0,0 +1,50 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Optional;
+
+@Controller
+@RequestMapping(value = "/api/events/imports", produces = MediaTypes.HAL_JSON_VALUE)
+public class EventImportController {
+
+    private final EventImportService eventImportService;
+
+    public EventImportController(EventImportService eventImportService) {
+        this.eventImportService = eventImportService;
+    }
+
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity createImport(InputStream body) throws IOException {
+        EventImportJob job = eventImportService.submit(body);
+        EventImportJobModel jobModel = new EventImportJobModel(job);
+        jobModel.add(Link.of("/docs/index.html#resources-events-import").withRel("profile"));
+        return ResponseEntity.accepted()
+                .location(URI.create(EventLinks.importHref(job.getId())))
+                .body(jobModel);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity getImport(@PathVariable String id) {
+        Optional<EventImportJob> optionalJob = eventImportService.findJob(id);
+        if(optionalJob.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        EventImportJobModel jobModel = new EventImportJobModel(optionalJob.get());
+        jobModel.add(Link.of("/docs/index.html#resources-events-import-get").withRel("profile"));
+        return ResponseEntity.ok(jobModel);
+    }
+
+}
@@ -0,0 +1,131 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.springframework.validation.Errors;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class EventImportJob {
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private static final int MAX_REJECTIONS = 100;
+
+    private final String id = UUID.randomUUID().toString();
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    // 오류가 아주 많을 수 있으므로 앞쪽 일부만 남긴다
+    private final List<Rejection> rejections = new CopyOnWriteArrayList<>();
+    private volatile State state = State.QUEUED;
+    private volatile long startedAtNanos;
+    private volatile long finishedAtNanos;
+    private volatile String failureMessage;
+
+    void start() {
+        startedAtNanos = System.nanoTime();
+        state = State.RUNNING;
+    }
+
+    void processed() {
+        processed.incrementAndGet();
+    }
+
+    void imported(int count) {
+        imported.addAndGet(count);
+    }
+
+    void rejected(long index, Errors errors) {
+        if(rejectedCount.incrementAndGet() <= MAX_REJECTIONS) {
+            rejections.add(new Rejection(index, errors));
+        }
+    }
+
+    void complete() {
+        finishedAtNanos = System.nanoTime();
+        state = State.COMPLETED;
+    }
+
+    void fail(String message) {
+        finishedAtNanos = System.nanoTime();
+        failureMessage = message;
+        state = State.FAILED;
+    }
+
+    boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    public long getImported() {
+        return imported.get();
+    }
+
+    public long getRejected() {
+        return rejectedCount.get();
+    }
+
+    public List<Rejection> getRejections() {
+        return rejections;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    public long getElapsedMillis() {
+        if(startedAtNanos == 0) {
+            return 0;
+        }
+        long end = isFinished() ? finishedAtNanos : System.nanoTime();
+        return (end - startedAtNanos) / 1_000_000;
+    }
+
+    // 초당 처리(import + reject) 건수
+    public double getThroughput() {
+        long elapsedMillis = getElapsedMillis();
+        return elapsedMillis == 0 ? 0 : getProcessed() * 1000.0 / elapsedMillis;
+    }
+
+    public static class Rejection {
+
+        private final long index;
+        private final Errors errors;
+
+        Rejection(long index, Errors errors) {
+            this.index = index;
+            this.errors = errors;
+        }
+
+        public long getIndex() {
+            return index;
+        }
+
+        public Errors getErrors() {
+            return errors;
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RepresentationModel;
+
+public class EventImportJobModel extends RepresentationModel<EventImportJobModel> {
+
+    @JsonUnwrapped
+    private final EventImportJob job;
+
+    public EventImportJobModel(EventImportJob job) {
+        this.job = job;
+        add(Link.of(EventLinks.importHref(job.getId())));
+    }
+
+    public EventImportJob getJob() {
+        return job;
+    }
+
+}
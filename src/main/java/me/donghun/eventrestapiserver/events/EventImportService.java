@@ -0,0 +1,173 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+// 대용량 JSON 배열 / NDJSON 을 스트리밍으로 읽어서 chunk 단위 트랜잭션으로 저장한다.
+// 요청 본문은 임시 파일로만 옮겨두고 바로 응답하며, 실제 import 는 별도 스레드에서 진행한다
+@Component
+public class EventImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventImportService.class);
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private final ObjectReader eventDtoReader;
+    private final EventMapper eventMapper;
+    private final EventValidator eventValidator;
+    private final EventBatchWriter eventBatchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final ExecutorService executor;
+    private final Map<String, EventImportJob> jobs = new ConcurrentHashMap<>();
+
+    public EventImportService(ObjectMapper objectMapper, EventMapper eventMapper, EventValidator eventValidator,
+                              EventBatchWriter eventBatchWriter, ApplicationEventPublisher eventPublisher,
+                              @Value("${events.import.chunk-size:500}") int chunkSize,
+                              @Value("${events.import.concurrency:1}") int concurrency) {
+        this.eventDtoReader = objectMapper.readerFor(EventDto.class);
+        this.eventMapper = eventMapper;
+        this.eventValidator = eventValidator;
+        this.eventBatchWriter = eventBatchWriter;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.executor = Executors.newFixedThreadPool(concurrency);
+    }
+
+    public EventImportJob submit(InputStream body) throws IOException {
+        Path file = Files.createTempFile("events-import-", ".json");
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        EventImportJob job = new EventImportJob();
+        evictFinishedJobs();
+        jobs.put(job.getId(), job);
+        executor.execute(() -> run(job, file));
+        return job;
+    }
+
+    public Optional<EventImportJob> findJob(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    void run(EventImportJob job, Path file) {
+        job.start();
+        // readValues 는 최상위 배열([...])과 줄 단위 값(NDJSON) 모두 한 건씩 읽는다
+        try (MappingIterator<EventDto> iterator = eventDtoReader.readValues(file.toFile())) {
+            List<Event> chunk = new ArrayList<>(chunkSize);
+            long index = 0;
+            while(iterator.hasNextValue()) {
+                EventDto eventDto;
+                Errors errors;
+                try {
+                    eventDto = iterator.nextValue();
+                    errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+                    eventValidator.validateAll(eventDto, errors);
+                } catch (JsonMappingException e) {
+                    // 값 하나를 EventDto 로 읽지 못한 경우(타입 불일치, 최상위 null 등). MappingIterator 가 그 값의 끝으로 건너뛰므로
+                    // 그 값만 거부하고 계속 읽는다. 문법 오류(JsonParseException)는 더 읽을 수 없으므로 작업이 실패한다
+                    eventDto = null;
+                    errors = unreadable(e);
+                }
+                if(errors.hasErrors()) {
+                    job.rejected(index, errors);
+                }
+                else {
+                    Event event = eventMapper.toEvent(eventDto);
+                    event.update();
+                    chunk.add(event);
+                }
+                job.processed();
+                index++;
+
+                if(chunk.size() == chunkSize) {
+                    writeChunk(job, chunk);
+                }
+            }
+            writeChunk(job, chunk);
+            job.complete();
+        } catch (Exception e) {
+            log.warn("event import {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("could not delete import file {}", file, e);
+            }
+        }
+    }
+
+    private static Errors unreadable(JsonMappingException e) {
+        Errors errors = new MapBindingResult(new HashMap<>(), "eventDto");
+        String field = e.getPath().stream()
+                .map(JsonMappingException.Reference::getFieldName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining("."));
+        if(field.isEmpty()) {
+            errors.reject("typeMismatch", e.getOriginalMessage());
+        }
+        else {
+            errors.rejectValue(field, "typeMismatch", e.getOriginalMessage());
+        }
+        return errors;
+    }
+
+    private void writeChunk(EventImportJob job, List<Event> chunk) {
+        if(chunk.isEmpty()) {
+            return;
+        }
+        eventBatchWriter.insertAll(chunk);
+        eventPublisher.publishEvent(EventsChangedEvent.created(chunk));
+        job.imported(chunk.size());
+        chunk.clear();
+    }
+
+    private void evictFinishedJobs() {
+        if(jobs.size() < MAX_RETAINED_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(EventImportJob::isFinished)
+                .sorted(Comparator.comparing(EventImportJob::getCreatedAt))
+                .limit(jobs.size() - MAX_RETAINED_JOBS + 1)
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+}
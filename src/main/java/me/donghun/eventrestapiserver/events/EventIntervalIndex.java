@@ -0,0 +1,161 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 기간 겹침 조회용 메모리 인덱스 (events.interval-index.enabled=true 일 때만 사용).
+// 지금부터 horizon 동안과 겹치는 이벤트만 EventIntervalTree 로 들고 있고, refresh 마다 DB에서 다시 만든다.
+// 그 사이 생성/수정된 이벤트는 changes 에 따로 두고 조회할 때 트리 결과 위에 덮어쓴다
+@Component
+public class EventIntervalIndex {
+
+    public enum Period {
+        EVENT, ENROLLMENT
+    }
+
+    private final EventRepository eventRepository;
+    private final boolean enabled;
+    private final Duration horizon;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Integer, Change> changes = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot;
+
+    public EventIntervalIndex(EventRepository eventRepository,
+                              @Value("${events.interval-index.enabled:false}") boolean enabled,
+                              @Value("${events.interval-index.horizon:7d}") Duration horizon) {
+        this.eventRepository = eventRepository;
+        this.enabled = enabled;
+        this.horizon = horizon;
+    }
+
+    @Scheduled(fixedDelayString = "${events.interval-index.refresh:60000}")
+    public void rebuild() {
+        if(!enabled) {
+            return;
+        }
+
+        // 이 시점까지의 변경은 commit 된 뒤 기록되었으므로 아래 조회 결과에 들어있다
+        long rebuiltSequence = sequence.get();
+        LocalDateTime from = LocalDateTime.now();
+        LocalDateTime to = from.plus(horizon);
+        Map<Period, EventIntervalTree> trees = new EnumMap<>(Period.class);
+        trees.put(Period.EVENT, EventIntervalTree.of(eventRepository.findEventPeriodsOverlapping(from, to)));
+        trees.put(Period.ENROLLMENT, EventIntervalTree.of(eventRepository.findEnrollmentPeriodsOverlapping(from, to)));
+        snapshot = new Snapshot(from, to, trees);
+        changes.values().removeIf(change -> change.sequence <= rebuiltSequence);
+    }
+
+    @EventListener
+    public void onEventsChanged(EventsChangedEvent changedEvent) {
+        if(!enabled) {
+            return;
+        }
+
+        for(Event event : changedEvent.getEvents()) {
+            changes.put(event.getId(), new Change(sequence.incrementAndGet(), event));
+        }
+    }
+
+    // [from, to) 가 메모리에 올라온 구간 안이면 겹치는 이벤트 id를 (시작 시각, id) 순서로 돌려준다. 아니면 empty
+    public Optional<List<Integer>> findOverlapping(Period period, LocalDateTime from, LocalDateTime to) {
+        Snapshot current = snapshot;
+        if(current == null || from.isBefore(current.from) || to.isAfter(current.to)) {
+            return Optional.empty();
+        }
+
+        long fromMillis = toMillis(from);
+        long toMillis = toMillis(to);
+        List<Match> matches = new ArrayList<>();
+        current.trees.get(period).findOverlapping(fromMillis, toMillis, (begin, eventId) -> {
+            if(!changes.containsKey(eventId)) {
+                matches.add(new Match(begin, eventId));
+            }
+        });
+
+        boolean changed = false;
+        for(Change change : changes.values()) {
+            long[] interval = change.intervals.get(period);
+            if(interval != null && interval[0] < toMillis && interval[1] > fromMillis) {
+                matches.add(new Match(interval[0], change.eventId));
+                changed = true;
+            }
+        }
+        if(changed) {
+            matches.sort(Comparator.comparingLong(Match::getBegin).thenComparingInt(Match::getEventId));
+        }
+        return Optional.of(matches.stream().map(Match::getEventId).collect(Collectors.toList()));
+    }
+
+    static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static long[] interval(LocalDateTime begin, LocalDateTime end) {
+        return begin == null || end == null ? null : new long[]{toMillis(begin), toMillis(end)};
+    }
+
+    private static final class Snapshot {
+
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final Map<Period, EventIntervalTree> trees;
+
+        private Snapshot(LocalDateTime from, LocalDateTime to, Map<Period, EventIntervalTree> trees) {
+            this.from = from;
+            this.to = to;
+            this.trees = trees;
+        }
+
+    }
+
+    private static final class Change {
+
+        private final long sequence;
+        private final int eventId;
+        private final Map<Period, long[]> intervals = new EnumMap<>(Period.class);
+
+        private Change(long sequence, Event event) {
+            this.sequence = sequence;
+            this.eventId = event.getId();
+            intervals.put(Period.EVENT, interval(event.getBeginEventDateTime(), event.getEndEventDateTime()));
+            intervals.put(Period.ENROLLMENT, interval(event.getBeginEnrollmentDateTime(), event.getCloseEnrollmentDateTime()));
+        }
+
+    }
+
+    private static final class Match {
+
+        private final long begin;
+        private final int eventId;
+
+        private Match(long begin, int eventId) {
+            this.begin = begin;
+            this.eventId = eventId;
+        }
+
+        long getBegin() {
+            return begin;
+        }
+
+        int getEventId() {
+            return eventId;
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package me.donghun.eventrestapiserver.events;
+
+import java.util.Comparator;
+import java.util.List;
+
+// 시작 시각 순으로 정렬한 배열 위의 정적 interval tree.
+// [lo, hi] 구간의 가운데 원소를 노드로 보고, 각 노드에 서브트리의 가장 늦은 종료 시각(maxEnds)을 둔다.
+// 한 번 만들면 바뀌지 않으므로 여러 스레드가 잠금 없이 읽을 수 있다
+final class EventIntervalTree {
+
+    static final EventIntervalTree EMPTY = new EventIntervalTree(new long[0], new long[0], new int[0]);
+
+    interface Visitor {
+        void visit(long begin, int eventId);
+    }
+
+    private final long[] begins;
+    private final long[] ends;
+    private final int[] eventIds;
+    private final long[] maxEnds;
+
+    private EventIntervalTree(long[] begins, long[] ends, int[] eventIds) {
+        this.begins = begins;
+        this.ends = ends;
+        this.eventIds = eventIds;
+        this.maxEnds = new long[begins.length];
+        build(0, begins.length - 1);
+    }
+
+    // 기간이 비어있는 이벤트는 넣지 않는다
+    static EventIntervalTree of(List<EventPeriod> periods) {
+        EventPeriod[] sorted = periods.stream()
+                .filter(period -> period.getBeginAt() != null && period.getEndAt() != null)
+                .sorted(Comparator.comparing(EventPeriod::getBeginAt).thenComparing(EventPeriod::getEventId))
+                .toArray(EventPeriod[]::new);
+
+        long[] begins = new long[sorted.length];
+        long[] ends = new long[sorted.length];
+        int[] eventIds = new int[sorted.length];
+        for(int i = 0; i < sorted.length; i++) {
+            begins[i] = EventIntervalIndex.toMillis(sorted[i].getBeginAt());
+            ends[i] = EventIntervalIndex.toMillis(sorted[i].getEndAt());
+            eventIds[i] = sorted[i].getEventId();
+        }
+        return new EventIntervalTree(begins, ends, eventIds);
+    }
+
+    int size() {
+        return begins.length;
+    }
+
+    // [from, to) 와 겹치는 구간을 시작 시각 순서로 방문한다
+    void findOverlapping(long from, long to, Visitor visitor) {
+        search(0, begins.length - 1, from, to, visitor);
+    }
+
+    private void search(int lo, int hi, long from, long to, Visitor visitor) {
+        if(lo > hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        // 서브트리에서 가장 늦게 끝나는 것도 from 전에 끝나면 볼 필요 없다
+        if(maxEnds[mid] <= from) {
+            return;
+        }
+
+        search(lo, mid - 1, from, to, visitor);
+        // 오른쪽은 시작 시각이 더 늦으므로 mid 가 to 이후에 시작하면 오른쪽도 볼 필요 없다
+        if(begins[mid] >= to) {
+            return;
+        }
+        if(ends[mid] > from) {
+            visitor.visit(begins[mid], eventIds[mid]);
+        }
+        search(mid + 1, hi, from, to, visitor);
+    }
+
+    private long build(int lo, int hi) {
+        if(lo > hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long maxEnd = Math.max(ends[mid], Math.max(build(lo, mid - 1), build(mid + 1, hi)));
+        maxEnds[mid] = maxEnd;
+        return maxEnd;
+    }
+
+}
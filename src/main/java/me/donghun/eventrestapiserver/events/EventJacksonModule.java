@@ -0,0 +1,34 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.stereotype.Component;
+
+// EventModel 과 그 목록에 전용 serializer 를 건다.
+// 기본 serializer 를 감싸는 방식이라, 전용 serializer 가 처리하지 못하는 경우 기본 직렬화로 넘길 수 있다
+@Component
+public class EventJacksonModule extends SimpleModule {
+
+    public EventJacksonModule() {
+        super(EventJacksonModule.class.getSimpleName());
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                Class<?> beanClass = beanDesc.getBeanClass();
+                if(beanClass == EventModel.class) {
+                    return new EventModelSerializer((JsonSerializer<Object>) serializer);
+                }
+                if(CollectionModel.class.isAssignableFrom(beanClass)) {
+                    return new EventCollectionModelSerializer((JsonSerializer<Object>) serializer, new EventModelSerializer(null));
+                }
+                return serializer;
+            }
+        });
+    }
+
+}
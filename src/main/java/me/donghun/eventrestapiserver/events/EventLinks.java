@@ -0,0 +1,48 @@
+package me.donghun.eventrestapiserver.events;
+
+import me.donghun.eventrestapiserver.common.LinkFactory;
+import org.springframework.hateoas.Link;
+import org.springframework.web.util.UriComponentsBuilder;
+
+public final class EventLinks {
+
+    private static final String EVENTS_PATH = LinkFactory.mappedPath(EventController.class);
+    private static final String IMPORTS_PATH = LinkFactory.mappedPath(EventImportController.class);
+    private static final String STATS_PATH = LinkFactory.mappedPath(EventStatsController.class);
+
+    private EventLinks() {
+    }
+
+    public static String eventsHref() {
+        return LinkFactory.href(EVENTS_PATH);
+    }
+
+    public static String eventHref(Integer id) {
+        return LinkFactory.href(EVENTS_PATH, id);
+    }
+
+    public static String importHref(String id) {
+        return LinkFactory.href(IMPORTS_PATH, id);
+    }
+
+    public static String statsHref() {
+        return LinkFactory.href(STATS_PATH);
+    }
+
+    public static UriComponentsBuilder eventsUriBuilder() {
+        return UriComponentsBuilder.fromUriString(eventsHref());
+    }
+
+    public static Link self(Integer id) {
+        return Link.of(eventHref(id));
+    }
+
+    public static Link update(Integer id) {
+        return Link.of(eventHref(id)).withRel("update");
+    }
+
+    public static Link query() {
+        return Link.of(eventsHref()).withRel("query");
+    }
+
+}
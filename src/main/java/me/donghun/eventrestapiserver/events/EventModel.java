@@ -1,21 +1,33 @@
 package me.donghun.eventrestapiserver.events;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonUnwrapped;
 import org.springframework.hateoas.RepresentationModel;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-
 public class EventModel extends RepresentationModel<EventModel> {
 
     @JsonUnwrapped
     private final Event event;
+    // ?fields= 로 고른 필드만 쓴다. null 이면 모든 필드
+    @JsonIgnore
+    private final EventFields fields;
 
     public EventModel(Event event) {
+        this(event, null);
+    }
+
+    public EventModel(Event event, EventFields fields) {
         this.event = event;
-        add(linkTo(EventController.class).slash(event.getId()).withSelfRel());
+        this.fields = fields;
+        add(EventLinks.self(event.getId()));
     }
 
     public Event getEvent() {
         return event;
     }
+
+    @JsonIgnore
+    public EventFields getFields() {
+        return fields;
+    }
 }
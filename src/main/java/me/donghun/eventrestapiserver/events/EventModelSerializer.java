@@ -0,0 +1,72 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import me.donghun.eventrestapiserver.common.HalLinksWriter;
+
+import java.io.IOException;
+
+// @JsonUnwrapped 를 거치지 않고 Event 필드와 _links 를 한 번에 쓴다.
+// 출력은 기본 직렬화와 바이트 단위로 같아야 하며, 직접 쓸 수 없는 링크가 있으면 기본 직렬화를 사용한다.
+// ?fields= 로 필드를 고른 경우에는 기본 직렬화가 고른 필드만 쓸 수 없으므로 항상 직접 쓴다 (링크는 href 만)
+public class EventModelSerializer extends StdSerializer<EventModel> {
+
+    private final JsonSerializer<Object> defaultSerializer;
+
+    public EventModelSerializer(JsonSerializer<Object> defaultSerializer) {
+        super(EventModel.class);
+        this.defaultSerializer = defaultSerializer;
+    }
+
+    @Override
+    public void serialize(EventModel eventModel, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        EventFields fields = eventModel.getFields();
+        if(fields == null && !HalLinksWriter.isSimple(eventModel.getLinks())) {
+            defaultSerializer.serialize(eventModel, gen, provider);
+            return;
+        }
+
+        gen.writeStartObject(eventModel);
+        if(fields == null) {
+            writeEventFields(eventModel.getEvent(), gen, provider);
+        }
+        else {
+            writeEventFields(eventModel.getEvent(), fields, gen, provider);
+        }
+        HalLinksWriter.write(eventModel.getLinks(), gen);
+        gen.writeEndObject();
+    }
+
+    // int, boolean 을 박싱하지 않으려고 EventField 를 돌지 않고 직접 쓴다.
+    // Event 의 속성과 이름, 순서가 같은지는 EventModelSerializerTest.eventFieldsMatchEvent 가 확인한다
+    static void writeEventFields(Event event, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if(event.getId() == null) {
+            gen.writeNullField("id");
+        }
+        else {
+            gen.writeNumberField("id", event.getId());
+        }
+        gen.writeStringField("name", event.getName());
+        gen.writeStringField("description", event.getDescription());
+        provider.defaultSerializeField("beginEnrollmentDateTime", event.getBeginEnrollmentDateTime(), gen);
+        provider.defaultSerializeField("closeEnrollmentDateTime", event.getCloseEnrollmentDateTime(), gen);
+        provider.defaultSerializeField("beginEventDateTime", event.getBeginEventDateTime(), gen);
+        provider.defaultSerializeField("endEventDateTime", event.getEndEventDateTime(), gen);
+        gen.writeStringField("location", event.getLocation());
+        gen.writeNumberField("basePrice", event.getBasePrice());
+        gen.writeNumberField("maxPrice", event.getMaxPrice());
+        gen.writeNumberField("limitOfEnrollment", event.getLimitOfEnrollment());
+        gen.writeBooleanField("offline", event.isOffline());
+        gen.writeBooleanField("free", event.isFree());
+        provider.defaultSerializeField("eventStatus", event.getEventStatus(), gen);
+    }
+
+    static void writeEventFields(Event event, EventFields fields, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        for(EventField field : fields.getFields()) {
+            provider.defaultSerializeField(field.getName(), field.get(event), gen);
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// JSON Merge Patch(RFC 7396)를 Event에 적용한다. 값이 null인 필드는 지운다(기본값으로 되돌린다). eventStatus 는 null 이면 400.
+// EventDto 필드와 eventStatus만 바꿀 수 있고, 바뀐 필드와 관련된 검증만 한다
+@Component
+public class EventPatcher {
+
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    private static final String EVENT_STATUS = "eventStatus";
+
+    private final ObjectMapper objectMapper;
+    private final EventMapper eventMapper;
+    private final EventValidator eventValidator;
+
+    public EventPatcher(ObjectMapper objectMapper, EventMapper eventMapper, EventValidator eventValidator) {
+        this.objectMapper = objectMapper;
+        this.eventMapper = eventMapper;
+        this.eventValidator = eventValidator;
+    }
+
+    // 오류가 있으면 event는 건드리지 않는다
+    public Errors apply(JsonNode patch, Event event) {
+        EventDto eventDto = eventMapper.toEventDto(event);
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        if(!patch.isObject()) {
+            errors.reject("wrongValue", "merge patch should be a JSON object");
+            return errors;
+        }
+
+        ObjectNode dtoPatch = ((ObjectNode) patch).deepCopy();
+        JsonNode eventStatusPatch = dtoPatch.remove(EVENT_STATUS);
+        List<String> fields = new ArrayList<>(dtoPatch.size());
+        dtoPatch.fieldNames().forEachRemaining(fields::add);
+
+        EventStatus eventStatus = event.getEventStatus();
+        try {
+            objectMapper.readerForUpdating(eventDto)
+                    .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(dtoPatch);
+            if(eventStatusPatch != null) {
+                eventStatus = objectMapper.treeToValue(eventStatusPatch, EventStatus.class);
+                // eventStatus 는 지울 수 없다. EventDto 에 없는 필드라 rejectValue 대신 FieldError 를 직접 넣는다
+                if(eventStatus == null) {
+                    errors.addError(new FieldError(errors.getObjectName(), EVENT_STATUS, null, false,
+                            new String[]{"NotNull"}, null, "must not be null"));
+                    return errors;
+                }
+            }
+        } catch (JsonProcessingException e) {
+            errors.reject("wrongValue", e.getOriginalMessage());
+            return errors;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        eventValidator.validateFields(eventDto, fields, errors);
+        if(errors.hasErrors()) {
+            return errors;
+        }
+
+        eventMapper.update(eventDto, event);
+        event.setEventStatus(eventStatus);
+        event.update();
+        return errors;
+    }
+
+}
@@ -0,0 +1,13 @@
+package me.donghun.eventrestapiserver.events;
+
+import java.time.LocalDateTime;
+
+public interface EventPeriod {
+
+    Integer getEventId();
+
+    LocalDateTime getBeginAt();
+
+    LocalDateTime getEndAt();
+
+}
@@ -0,0 +1,61 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// ?fields= 로 고른 컬럼만 select 해서 그 필드만 채운 Event 를 만든다.
+// 영속성 컨텍스트에 들어가지 않는 Event 이므로 저장하거나 캐시에 넣으면 안 된다
+@Component
+public class EventProjections {
+
+    private final EntityManager entityManager;
+    private final EventRepository eventRepository;
+
+    public EventProjections(EntityManager entityManager, EventRepository eventRepository) {
+        this.entityManager = entityManager;
+        this.eventRepository = eventRepository;
+    }
+
+    public Page<Event> findAll(EventFields fields, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Event> root = query.from(Event.class);
+        List<EventField> selected = fields.getFields();
+        query.multiselect(selected.stream().<Selection<?>>map(field -> root.get(field.getName()))
+                .collect(Collectors.toList()));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if(pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Tuple> tuples = typedQuery.getResultList();
+        List<Event> events = new ArrayList<>(tuples.size());
+        for(Tuple tuple : tuples) {
+            Event event = new Event();
+            for(int i = 0; i < selected.size(); i++) {
+                selected.get(i).set(event, tuple.get(i));
+            }
+            events.add(event);
+        }
+        // findAll(Pageable) 처럼 마지막 페이지이면 count 쿼리를 생략한다
+        return PageableExecutionUtils.getPage(events, pageable, eventRepository::count);
+    }
+
+}
@@ -1,6 +1,149 @@
 package me.donghun.eventrestapiserver.events;
 
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+@CacheConfig(cacheNames = EventRepository.CACHE_NAME)
+public interface EventRepository extends JpaRepository<Event, Integer>, JpaSpecificationExecutor<Event> {
+
+    String CACHE_NAME = "events";
+
+    // 조회 전용. 캐시된 인스턴스는 여러 요청이 공유하므로 수정하지 말 것 (수정은 findById 사용)
+    @Cacheable(unless = "#result == null")
+    Optional<Event> findCachedById(Integer id);
+
+    // 메모리 인덱스가 찾은 id 목록 중 한 페이지만 캐시를 통해 읽는다. 전체 개수는 id 목록의 크기
+    default Page<Event> findCachedPage(List<Integer> ids, Pageable pageable) {
+        List<Event> events = ids.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(this::findCachedById)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+        return new PageImpl<>(events, pageable, ids.size());
+    }
+
+    default Page<Event> findCachedPage(int[] ids, Pageable pageable) {
+        List<Event> events = Arrays.stream(ids)
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .mapToObj(this::findCachedById)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+        return new PageImpl<>(events, pageable, ids.length);
+    }
+
+    // EventCounter 가 전체 개수와 목록 ETag 용 변경 여부를 DB에 맞출 때 쓴다
+    @Query("select count(e) as total, coalesce(sum(e.version), 0) as versionSum from Event e")
+    EventsVersion findEventsVersion();
+
+    // Page와 달리 count 쿼리를 날리지 않는다
+    Slice<Event> findSliceBy(Pageable pageable);
+
+    // keyset 페이지네이션. (name, id) 인덱스를 타므로 페이지 위치와 상관없이 비용이 같다
+    @Query("select e from Event e order by e.name asc, e.id asc")
+    Slice<Event> findFirstKeysetSlice(Pageable pageable);
+
+    @Query("select e from Event e where e.name > :#{#cursor.name} or (e.name = :#{#cursor.name} and e.id > :#{#cursor.id}) " +
+            "order by e.name asc, e.id asc")
+    Slice<Event> findKeysetSliceAfter(EventCursor cursor, Pageable pageable);
+
+    // export 용. 트랜잭션 안에서 사용하고 반드시 close 해야 한다
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select e from Event e order by e.id")
+    Stream<Event> streamAllBy();
+
+    // 기간이 [from, to) 와 겹치는 이벤트. 경계가 맞닿기만 한 경우는 겹치지 않는 것으로 본다
+    @Query("select e from Event e where e.beginEventDateTime < :to and e.endEventDateTime > :from " +
+            "order by e.beginEventDateTime asc, e.id asc")
+    Page<Event> findEventPeriodOverlapping(LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    @Query("select e from Event e where e.beginEnrollmentDateTime < :to and e.closeEnrollmentDateTime > :from " +
+            "order by e.beginEnrollmentDateTime asc, e.id asc")
+    Page<Event> findEnrollmentPeriodOverlapping(LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    // EventIntervalIndex 용. 엔티티 대신 id와 기간만 읽는다
+    @Query("select e.id as eventId, e.beginEventDateTime as beginAt, e.endEventDateTime as endAt from Event e " +
+            "where e.beginEventDateTime < :to and e.endEventDateTime > :from")
+    List<EventPeriod> findEventPeriodsOverlapping(LocalDateTime from, LocalDateTime to);
+
+    @Query("select e.id as eventId, e.beginEnrollmentDateTime as beginAt, e.closeEnrollmentDateTime as endAt from Event e " +
+            "where e.beginEnrollmentDateTime < :to and e.closeEnrollmentDateTime > :from")
+    List<EventPeriod> findEnrollmentPeriodsOverlapping(LocalDateTime from, LocalDateTime to);
+
+    // EventSearchIndex 를 다시 만들 때 id 순서로 chunk 단위로 읽는다
+    @Query("select e.id as id, e.version as version, e.name as name, e.description as description from Event e " +
+            "where e.id > :afterId order by e.id asc")
+    List<EventText> findTextsAfter(Integer afterId, Pageable pageable);
+
+    // EventColumns 를 다시 만들 때 id 순서로 chunk 단위로 읽는다
+    @Query("select e.id as id, e.version as version, e.basePrice as basePrice, e.maxPrice as maxPrice, " +
+            "e.limitOfEnrollment as limitOfEnrollment, e.free as free, e.offline as offline, e.eventStatus as eventStatus, " +
+            "e.beginEnrollmentDateTime as beginEnrollmentDateTime, e.closeEnrollmentDateTime as closeEnrollmentDateTime, " +
+            "e.beginEventDateTime as beginEventDateTime, e.endEventDateTime as endEventDateTime from Event e " +
+            "where e.id > :afterId order by e.id asc")
+    List<EventAttributes> findAttributesAfter(Integer afterId, Pageable pageable);
+
+    // EventStatusScheduler 용. (eventStatus, 시각) 인덱스로 (from, until] 구간에 상태를 바꿀 이벤트만 읽는다
+    @Query("select e.id as eventId, e.beginEnrollmentDateTime as fireAt from Event e " +
+            "where e.eventStatus = me.donghun.eventrestapiserver.events.EventStatus.PUBLISHED " +
+            "and e.beginEnrollmentDateTime > :from and e.beginEnrollmentDateTime <= :until")
+    List<EventTransition> findEnrollmentBeginsBetween(LocalDateTime from, LocalDateTime until);
+
+    @Query("select e.id as eventId, e.closeEnrollmentDateTime as fireAt from Event e " +
+            "where e.eventStatus in (me.donghun.eventrestapiserver.events.EventStatus.PUBLISHED, " +
+            "me.donghun.eventrestapiserver.events.EventStatus.BEGAN_ENROLLMENT) " +
+            "and e.closeEnrollmentDateTime > :from and e.closeEnrollmentDateTime <= :until")
+    List<EventTransition> findEnrollmentClosesBetween(LocalDateTime from, LocalDateTime until);
+
+    // 상태 전이는 ids 단위로 한 번에 update 한다. 조건을 다시 확인하므로 이미 바뀌었거나 날짜가 바뀐 이벤트는 건너뛰며,
+    // ETag가 바뀌도록 버전도 올린다. 캐시는 호출하는 쪽에서 비워야 한다
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.eventStatus = me.donghun.eventrestapiserver.events.EventStatus.BEGAN_ENROLLMENT, " +
+            "e.version = e.version + 1 " +
+            "where e.id in :ids and e.eventStatus = me.donghun.eventrestapiserver.events.EventStatus.PUBLISHED " +
+            "and e.beginEnrollmentDateTime <= :now " +
+            "and (e.closeEnrollmentDateTime is null or e.closeEnrollmentDateTime > :now)")
+    int beginEnrollment(Collection<Integer> ids, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.eventStatus = me.donghun.eventrestapiserver.events.EventStatus.CLOSED_ENROLLMENT, " +
+            "e.version = e.version + 1 " +
+            "where e.id in :ids and e.eventStatus in (me.donghun.eventrestapiserver.events.EventStatus.PUBLISHED, " +
+            "me.donghun.eventrestapiserver.events.EventStatus.BEGAN_ENROLLMENT) " +
+            "and e.closeEnrollmentDateTime <= :now")
+    int closeEnrollment(Collection<Integer> ids, LocalDateTime now);
+
+    @Override
+    @CachePut(key = "#result.id")
+    <S extends Event> S save(S entity);
 
-public interface EventRepository extends JpaRepository<Event, Integer> {
 }
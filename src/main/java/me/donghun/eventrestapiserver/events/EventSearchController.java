@@ -0,0 +1,42 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Controller
+@RequestMapping(value = "/api/events/search", produces = MediaTypes.HAL_JSON_VALUE)
+public class EventSearchController {
+
+    private final EventSearchIndex eventSearchIndex;
+    private final EventRepository eventRepository;
+
+    public EventSearchController(EventSearchIndex eventSearchIndex, EventRepository eventRepository) {
+        this.eventSearchIndex = eventSearchIndex;
+        this.eventRepository = eventRepository;
+    }
+
+    @GetMapping
+    public ResponseEntity searchEvents(@RequestParam String q, Pageable pageable, PagedResourcesAssembler<Event> assembler) {
+        if(q.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 정렬은 항상 검색 점수 순서
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<Event> page = eventRepository.findCachedPage(eventSearchIndex.search(q), unsorted);
+        PagedModel<EventModel> eventModels = assembler.toModel(page, EventModel::new);
+        eventModels.add(Link.of("/docs/index.html#resources-events-search").withRel("profile"));
+        return ResponseEntity.ok(eventModels);
+    }
+
+}
@@ -0,0 +1,196 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+// name, description 검색용 메모리 역색인. LIKE '%x%' 처럼 테이블 전체를 읽지 않는다.
+// 검색어의 모든 토큰을 가진 이벤트를 BM25 점수(name 에 가중치) 순서로 돌려준다.
+// 시작할 때 DB에서 chunk 단위로 읽어 토큰화는 병렬로 하고, 이후에는 EventsChangedEvent 로 이벤트 단위로 갱신한다
+@Component
+public class EventSearchIndex {
+
+    private static final float NAME_WEIGHT = 2f;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final EventRepository eventRepository;
+    private final int rebuildChunkSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 토큰 -> (이벤트 id -> 가중치를 곱한 빈도)
+    private final Map<String, Map<Integer, Float>> postings = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private double totalLength;
+
+    public EventSearchIndex(EventRepository eventRepository,
+                            @Value("${events.search.rebuild-chunk-size:5000}") int rebuildChunkSize) {
+        this.eventRepository = eventRepository;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int afterId = Integer.MIN_VALUE;
+        List<EventText> chunk;
+        do {
+            chunk = eventRepository.findTextsAfter(afterId, PageRequest.of(0, rebuildChunkSize));
+            List<Document> analyzed = chunk.parallelStream()
+                    .map(text -> Document.analyze(text.getId(), text.getVersion(), text.getName(), text.getDescription()))
+                    .collect(Collectors.toList());
+            write(analyzed);
+            if(!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while(chunk.size() == rebuildChunkSize);
+    }
+
+    @EventListener
+    public void onEventsChanged(EventsChangedEvent changedEvent) {
+        write(changedEvent.getEvents().stream()
+                .map(event -> Document.analyze(event.getId(), event.getVersion(), event.getName(), event.getDescription()))
+                .collect(Collectors.toList()));
+    }
+
+    // 점수가 높은 순서(같으면 id 순서)의 이벤트 id
+    public List<Integer> search(String query) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(EventTokenizer.tokenize(query)));
+        if(terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Integer, Float>> termPostings = new ArrayList<>(terms.size());
+            for(String term : terms) {
+                Map<Integer, Float> posting = postings.get(term);
+                if(posting == null) {
+                    return List.of();
+                }
+                termPostings.add(posting);
+            }
+            // 가장 짧은 목록부터 교집합
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            double averageLength = totalLength / documents.size();
+            List<Hit> hits = new ArrayList<>();
+            candidates:
+            for(Integer eventId : termPostings.get(0).keySet()) {
+                double lengthNorm = K1 * (1 - B + B * documents.get(eventId).length / averageLength);
+                double score = 0;
+                for(Map<Integer, Float> posting : termPostings) {
+                    Float frequency = posting.get(eventId);
+                    if(frequency == null) {
+                        continue candidates;
+                    }
+                    score += idf(posting.size()) * frequency * (K1 + 1) / (frequency + lengthNorm);
+                }
+                hits.add(new Hit(eventId, score));
+            }
+
+            hits.sort(Comparator.comparingDouble(Hit::getScore).reversed().thenComparingInt(Hit::getEventId));
+            return hits.stream().map(Hit::getEventId).collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void write(List<Document> analyzed) {
+        lock.writeLock().lock();
+        try {
+            analyzed.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 시작할 때 다시 만드는 중에 더 최신 수정이 먼저 들어왔을 수 있으므로 버전이 낮으면 무시한다
+    private void put(Document document) {
+        Document old = documents.get(document.eventId);
+        if(old != null) {
+            if(old.version != null && document.version != null && old.version > document.version) {
+                return;
+            }
+            remove(old);
+        }
+
+        documents.put(document.eventId, document);
+        document.frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.eventId, frequency));
+        totalLength += document.length;
+    }
+
+    private void remove(Document document) {
+        document.frequencies.keySet().forEach(term -> {
+            Map<Integer, Float> posting = postings.get(term);
+            posting.remove(document.eventId);
+            if(posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+        documents.remove(document.eventId);
+        totalLength -= document.length;
+    }
+
+    private static final class Document {
+
+        private final int eventId;
+        private final Long version;
+        private final Map<String, Float> frequencies = new HashMap<>();
+        private float length;
+
+        private Document(int eventId, Long version) {
+            this.eventId = eventId;
+            this.version = version;
+        }
+
+        static Document analyze(int eventId, Long version, String name, String description) {
+            Document document = new Document(eventId, version);
+            EventTokenizer.tokenizeForIndex(name).forEach(token -> document.add(token, NAME_WEIGHT));
+            EventTokenizer.tokenizeForIndex(description).forEach(token -> document.add(token, 1f));
+            return document;
+        }
+
+        private void add(String token, float weight) {
+            frequencies.merge(token, weight, Float::sum);
+            length += weight;
+        }
+
+    }
+
+    private static final class Hit {
+
+        private final int eventId;
+        private final double score;
+
+        private Hit(int eventId, double score) {
+            this.eventId = eventId;
+            this.score = score;
+        }
+
+        int getEventId() {
+            return eventId;
+        }
+
+        double getScore() {
+            return score;
+        }
+
+    }
+
+}
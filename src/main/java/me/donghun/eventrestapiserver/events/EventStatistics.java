@@ -0,0 +1,235 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// GET /api/events/stats 용 집계. 조회마다 GROUP BY 하지 않고 EventsChangedEvent(commit 후)로 카운터를 증감한다.
+// 이벤트마다 지금 어느 카운터에 들어가 있는지(Contribution)를 들고 있어서, 수정되면 예전 값을 빼고 새 값을 더한다.
+// reconcile 은 DB에서 처음부터 다시 세어 카운터를 바꿔치고, 그동안 어긋나 있던 만큼을 drift 로 남긴다
+@Component
+public class EventStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(EventStatistics.class);
+
+    private final EventRepository eventRepository;
+    private final int[] priceBuckets;
+    private final int rebuildChunkSize;
+    private final Object reconcileLock = new Object();
+    private Map<Integer, Contribution> contributions = new HashMap<>();
+    private Counts counts;
+    // reconcile 이 DB를 읽는 동안 들어온 변경. 다 읽은 뒤 새 카운터에 다시 적용한다
+    private List<Contribution> pending;
+    private LocalDateTime reconciledAt;
+    private Map<String, Long> drift = Map.of();
+
+    // priceBuckets: 가격 구간의 시작값들 (오름차순). 마지막 구간은 끝이 없다
+    public EventStatistics(EventRepository eventRepository,
+                           @Value("${events.stats.price-buckets:0,10000,30000,50000,100000}") int[] priceBuckets,
+                           @Value("${events.stats.rebuild-chunk-size:5000}") int rebuildChunkSize) {
+        this.eventRepository = eventRepository;
+        this.priceBuckets = priceBuckets.clone();
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.counts = new Counts(priceBuckets.length);
+    }
+
+    // 처음 세는 것은 어긋난 것이 아니므로 drift 를 남기거나 경고하지 않는다
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild(false);
+    }
+
+    @Scheduled(initialDelayString = "${events.stats.reconcile-interval:3600000}",
+            fixedDelayString = "${events.stats.reconcile-interval:3600000}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    @EventListener
+    public synchronized void onEventsChanged(EventsChangedEvent changedEvent) {
+        for(Event event : changedEvent.getEvents()) {
+            Contribution contribution = new Contribution(event.getId(), event.getVersion(), event.getEventStatus(),
+                    event.isFree(), event.isOffline(), bucketOf(event.getBasePrice()), bucketOf(event.getMaxPrice()));
+            apply(contributions, counts, contribution);
+            if(pending != null) {
+                pending.add(contribution);
+            }
+        }
+    }
+
+    public synchronized EventStats getStats() {
+        Map<EventStatus, Long> byStatus = new EnumMap<>(EventStatus.class);
+        for(EventStatus eventStatus : EventStatus.values()) {
+            byStatus.put(eventStatus, counts.byStatus[eventStatus.ordinal()]);
+        }
+        return new EventStats(counts.total, byStatus, counts.free, counts.offline,
+                priceHistogram(counts.basePrice), priceHistogram(counts.maxPrice), reconciledAt, drift);
+    }
+
+    // 카운터를 DB 기준으로 다시 만들고, 바꾸기 직전 카운터와의 차이(카운터 - DB)를 돌려준다. 0 인 항목은 뺀다
+    public Map<String, Long> reconcile() {
+        return rebuild(true);
+    }
+
+    private Map<String, Long> rebuild(boolean recordDrift) {
+        synchronized(reconcileLock) {
+            synchronized(this) {
+                pending = new ArrayList<>();
+            }
+
+            Map<Integer, Contribution> rebuilt = new HashMap<>();
+            Counts rebuiltCounts = new Counts(priceBuckets.length);
+            int afterId = Integer.MIN_VALUE;
+            List<EventAttributes> chunk;
+            do {
+                chunk = eventRepository.findAttributesAfter(afterId, PageRequest.of(0, rebuildChunkSize));
+                for(EventAttributes attributes : chunk) {
+                    apply(rebuilt, rebuiltCounts, new Contribution(attributes.getId(), attributes.getVersion(),
+                            attributes.getEventStatus(), attributes.isFree(), attributes.isOffline(),
+                            bucketOf(attributes.getBasePrice()), bucketOf(attributes.getMaxPrice())));
+                }
+                if(!chunk.isEmpty()) {
+                    afterId = chunk.get(chunk.size() - 1).getId();
+                }
+            } while(chunk.size() == rebuildChunkSize);
+
+            synchronized(this) {
+                // 읽기 전에 commit 된 변경은 이미 들어있고 버전이 같으므로 다시 적용해도 결과가 같다
+                for(Contribution contribution : pending) {
+                    apply(rebuilt, rebuiltCounts, contribution);
+                }
+                pending = null;
+
+                Map<String, Long> reconciledDrift = recordDrift ? diff(counts, rebuiltCounts) : Map.of();
+                contributions = rebuilt;
+                counts = rebuiltCounts;
+                reconciledAt = LocalDateTime.now();
+                drift = reconciledDrift;
+                if(!reconciledDrift.isEmpty()) {
+                    log.warn("event statistics drifted from database: {}", reconciledDrift);
+                }
+                return reconciledDrift;
+            }
+        }
+    }
+
+    // 더 새 버전이 이미 들어와 있으면 건너뛴다
+    private static void apply(Map<Integer, Contribution> contributions, Counts counts, Contribution contribution) {
+        Contribution previous = contributions.get(contribution.eventId);
+        if(previous != null) {
+            if(previous.version > contribution.version) {
+                return;
+            }
+            counts.add(previous, -1);
+        }
+        counts.add(contribution, 1);
+        contributions.put(contribution.eventId, contribution);
+    }
+
+    private int bucketOf(int price) {
+        int index = Arrays.binarySearch(priceBuckets, price);
+        // 첫 구간보다 작은 값은 첫 구간에 넣는다
+        return index >= 0 ? index : Math.max(0, -index - 2);
+    }
+
+    private List<EventStats.PriceBucket> priceHistogram(long[] bucketCounts) {
+        List<EventStats.PriceBucket> histogram = new ArrayList<>(priceBuckets.length);
+        for(int bucket = 0; bucket < priceBuckets.length; bucket++) {
+            Integer to = bucket + 1 < priceBuckets.length ? priceBuckets[bucket + 1] : null;
+            histogram.add(new EventStats.PriceBucket(priceBuckets[bucket], to, bucketCounts[bucket]));
+        }
+        return histogram;
+    }
+
+    private Map<String, Long> diff(Counts counted, Counts actual) {
+        Map<String, Long> differences = new LinkedHashMap<>();
+        putDifference(differences, "total", counted.total, actual.total);
+        for(EventStatus eventStatus : EventStatus.values()) {
+            putDifference(differences, "eventStatus." + eventStatus,
+                    counted.byStatus[eventStatus.ordinal()], actual.byStatus[eventStatus.ordinal()]);
+        }
+        putDifference(differences, "free", counted.free, actual.free);
+        putDifference(differences, "offline", counted.offline, actual.offline);
+        for(int bucket = 0; bucket < priceBuckets.length; bucket++) {
+            putDifference(differences, "basePrice." + priceBuckets[bucket], counted.basePrice[bucket], actual.basePrice[bucket]);
+            putDifference(differences, "maxPrice." + priceBuckets[bucket], counted.maxPrice[bucket], actual.maxPrice[bucket]);
+        }
+        return differences;
+    }
+
+    private static void putDifference(Map<String, Long> differences, String name, long counted, long actual) {
+        if(counted != actual) {
+            differences.put(name, counted - actual);
+        }
+    }
+
+    // 이벤트 한 건이 들어가 있는 카운터
+    private static final class Contribution {
+
+        private final Integer eventId;
+        private final long version;
+        private final EventStatus eventStatus;
+        private final boolean free;
+        private final boolean offline;
+        private final int basePriceBucket;
+        private final int maxPriceBucket;
+
+        private Contribution(Integer eventId, Long version, EventStatus eventStatus, boolean free, boolean offline,
+                             int basePriceBucket, int maxPriceBucket) {
+            this.eventId = eventId;
+            this.version = version == null ? 0 : version;
+            this.eventStatus = eventStatus;
+            this.free = free;
+            this.offline = offline;
+            this.basePriceBucket = basePriceBucket;
+            this.maxPriceBucket = maxPriceBucket;
+        }
+
+    }
+
+    private static final class Counts {
+
+        private long total;
+        private final long[] byStatus = new long[EventStatus.values().length];
+        private long free;
+        private long offline;
+        private final long[] basePrice;
+        private final long[] maxPrice;
+
+        private Counts(int priceBucketCount) {
+            this.basePrice = new long[priceBucketCount];
+            this.maxPrice = new long[priceBucketCount];
+        }
+
+        private void add(Contribution contribution, int sign) {
+            total += sign;
+            if(contribution.eventStatus != null) {
+                byStatus[contribution.eventStatus.ordinal()] += sign;
+            }
+            if(contribution.free) {
+                free += sign;
+            }
+            if(contribution.offline) {
+                offline += sign;
+            }
+            basePrice[contribution.basePriceBucket] += sign;
+            maxPrice[contribution.maxPriceBucket] += sign;
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package me.donghun.eventrestapiserver.events;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// EventStatistics 의 한 시점 값
+public class EventStats {
+
+    private final long total;
+    private final Map<EventStatus, Long> eventStatus;
+    private final long free;
+    private final long offline;
+    private final List<PriceBucket> basePrice;
+    private final List<PriceBucket> maxPrice;
+    private final LocalDateTime reconciledAt;
+    private final Map<String, Long> drift;
+
+    EventStats(long total, Map<EventStatus, Long> eventStatus, long free, long offline,
+               List<PriceBucket> basePrice, List<PriceBucket> maxPrice,
+               LocalDateTime reconciledAt, Map<String, Long> drift) {
+        this.total = total;
+        this.eventStatus = eventStatus;
+        this.free = free;
+        this.offline = offline;
+        this.basePrice = basePrice;
+        this.maxPrice = maxPrice;
+        this.reconciledAt = reconciledAt;
+        this.drift = drift;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<EventStatus, Long> getEventStatus() {
+        return eventStatus;
+    }
+
+    public long getFree() {
+        return free;
+    }
+
+    public long getPaid() {
+        return total - free;
+    }
+
+    public long getOffline() {
+        return offline;
+    }
+
+    public long getOnline() {
+        return total - offline;
+    }
+
+    public List<PriceBucket> getBasePrice() {
+        return basePrice;
+    }
+
+    public List<PriceBucket> getMaxPrice() {
+        return maxPrice;
+    }
+
+    public LocalDateTime getReconciledAt() {
+        return reconciledAt;
+    }
+
+    // 마지막 reconcile 때 카운터가 DB보다 많았던(음수면 적었던) 만큼
+    public Map<String, Long> getDrift() {
+        return drift;
+    }
+
+    // [from, to) 구간. 마지막 구간은 to 가 없다
+    public static class PriceBucket {
+
+        private final int from;
+        private final Integer to;
+        private final long count;
+
+        PriceBucket(int from, Integer to, long count) {
+            this.from = from;
+            this.to = to;
+            this.count = count;
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public Integer getTo() {
+            return to;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+    }
+
+}
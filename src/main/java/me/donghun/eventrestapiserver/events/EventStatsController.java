@@ -0,0 +1,28 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@Controller
+@RequestMapping(value = "/api/events/stats", produces = MediaTypes.HAL_JSON_VALUE)
+public class EventStatsController {
+
+    private final EventStatistics eventStatistics;
+
+    public EventStatsController(EventStatistics eventStatistics) {
+        this.eventStatistics = eventStatistics;
+    }
+
+    @GetMapping
+    public ResponseEntity getStats() {
+        EventStatsModel statsModel = new EventStatsModel(eventStatistics.getStats());
+        statsModel.add(Link.of(EventLinks.statsHref()));
+        statsModel.add(Link.of("/docs/index.html#resources-events-stats").withRel("profile"));
+        return ResponseEntity.ok(statsModel);
+    }
+
+}
@@ -0,0 +1,19 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import org.springframework.hateoas.RepresentationModel;
+
+public class EventStatsModel extends RepresentationModel<EventStatsModel> {
+
+    @JsonUnwrapped
+    private final EventStats stats;
+
+    public EventStatsModel(EventStats stats) {
+        this.stats = stats;
+    }
+
+    public EventStats getStats() {
+        return stats;
+    }
+
+}
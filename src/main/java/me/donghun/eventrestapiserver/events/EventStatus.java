@@ -2,6 +2,6 @@ package me.donghun.eventrestapiserver.events;
 
 public enum EventStatus {
 
-    DRAFT, PUBLISHED, BEGAN_ENROLLMENT;
+    DRAFT, PUBLISHED, BEGAN_ENROLLMENT, CLOSED_ENROLLMENT;
 
 }
@@ -0,0 +1,142 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// beginEnrollmentDateTime / closeEnrollmentDateTime 이 지나면 이벤트 상태를 바꾼다.
+// PUBLISHED -> BEGAN_ENROLLMENT -> CLOSED_ENROLLMENT (둘 다 지났으면 바로 CLOSED_ENROLLMENT)
+// 테이블 전체를 훑지 않고 앞으로 window 만큼의 구간만 인덱스로 읽어서 시각 순서의 min-heap 에 넣어두고,
+// 시각이 된 것들을 모아서 한 번에 update 한다. 이미 읽은 구간 안으로 날짜가 바뀐 이벤트는 EventsChangedEvent 를 받아 다시 넣는다.
+// update 는 엔티티를 거치지 않으므로, 바뀐 이벤트를 다시 읽어 EventsChangedEvent 로 알린다
+@Component
+public class EventStatusScheduler {
+
+    private static final int UPDATE_BATCH_SIZE = 500;
+    private static final LocalDateTime SINCE_EVER = LocalDateTime.of(0, 1, 1, 0, 0);
+
+    private final EventRepository eventRepository;
+    private final Cache eventCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration window;
+    private final PriorityQueue<Transition> transitions = new PriorityQueue<>(Comparator.comparing(Transition::getFireAt));
+    // 이 시각까지의 전이는 모두 heap 에 들어있다. null 이면 아직 한 번도 읽지 않음
+    private LocalDateTime loadedUntil;
+
+    public EventStatusScheduler(EventRepository eventRepository, CacheManager cacheManager,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${events.status.window:1h}") Duration window) {
+        this.eventRepository = eventRepository;
+        this.eventCache = cacheManager.getCache(EventRepository.CACHE_NAME);
+        this.eventPublisher = eventPublisher;
+        this.window = window;
+    }
+
+    // 아직 읽지 않은 구간의 시각은 그 구간을 읽을 때 같이 읽힌다
+    @EventListener
+    public synchronized void arm(EventsChangedEvent changedEvent) {
+        if(loadedUntil == null) {
+            return;
+        }
+
+        for(Event event : changedEvent.getEvents()) {
+            EventStatus eventStatus = event.getEventStatus();
+            if(eventStatus == EventStatus.PUBLISHED) {
+                push(event.getId(), event.getBeginEnrollmentDateTime());
+            }
+            if(eventStatus == EventStatus.PUBLISHED || eventStatus == EventStatus.BEGAN_ENROLLMENT) {
+                push(event.getId(), event.getCloseEnrollmentDateTime());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${events.status.tick:1000}")
+    public void tick() {
+        fireDue(LocalDateTime.now());
+    }
+
+    void fireDue(LocalDateTime now) {
+        loadIfNeeded(now);
+
+        List<Integer> due = new ArrayList<>(pollDue(now));
+        for(int from = 0; from < due.size(); from += UPDATE_BATCH_SIZE) {
+            List<Integer> ids = due.subList(from, Math.min(from + UPDATE_BATCH_SIZE, due.size()));
+            int updated = eventRepository.closeEnrollment(ids, now) + eventRepository.beginEnrollment(ids, now);
+            ids.forEach(eventCache::evict);
+            // 일괄 update 는 바꾼 행마다 version 을 1 올린다. 다시 확인해서 건너뛴 행도 함께 발행되지만 version 합계는 updated 만큼만 늘어난다
+            if(updated > 0) {
+                eventPublisher.publishEvent(EventsChangedEvent.updated(eventRepository.findAllById(ids), updated));
+            }
+        }
+    }
+
+    // 읽은 구간이 window 의 절반 아래로 남으면 다음 구간을 미리 읽는다.
+    // loadedUntil 을 먼저 늘려두므로, 읽는 사이에 arm 된 이벤트는 중복으로 들어갈 수는 있어도 빠지지 않는다
+    private void loadIfNeeded(LocalDateTime now) {
+        LocalDateTime from;
+        LocalDateTime until = now.plus(window);
+        synchronized(this) {
+            if(loadedUntil != null && loadedUntil.isAfter(now.plus(window.dividedBy(2)))) {
+                return;
+            }
+            from = loadedUntil == null ? SINCE_EVER : loadedUntil;
+            loadedUntil = until;
+        }
+
+        List<EventTransition> loaded = new ArrayList<>(eventRepository.findEnrollmentBeginsBetween(from, until));
+        loaded.addAll(eventRepository.findEnrollmentClosesBetween(from, until));
+        synchronized(this) {
+            for(EventTransition transition : loaded) {
+                transitions.add(new Transition(transition.getEventId(), transition.getFireAt()));
+            }
+        }
+    }
+
+    private synchronized Set<Integer> pollDue(LocalDateTime now) {
+        Set<Integer> due = new LinkedHashSet<>();
+        while(!transitions.isEmpty() && !transitions.peek().getFireAt().isAfter(now)) {
+            due.add(transitions.poll().getEventId());
+        }
+        return due;
+    }
+
+    private void push(Integer eventId, LocalDateTime fireAt) {
+        if(fireAt != null && !fireAt.isAfter(loadedUntil)) {
+            transitions.add(new Transition(eventId, fireAt));
+        }
+    }
+
+    private static final class Transition {
+
+        private final Integer eventId;
+        private final LocalDateTime fireAt;
+
+        private Transition(Integer eventId, LocalDateTime fireAt) {
+            this.eventId = eventId;
+            this.fireAt = fireAt;
+        }
+
+        Integer getEventId() {
+            return eventId;
+        }
+
+        LocalDateTime getFireAt() {
+            return fireAt;
+        }
+
+    }
+
+}
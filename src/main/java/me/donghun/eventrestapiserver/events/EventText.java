@@ -0,0 +1,13 @@
+package me.donghun.eventrestapiserver.events;
+
+public interface EventText {
+
+    Integer getId();
+
+    Long getVersion();
+
+    String getName();
+
+    String getDescription();
+
+}
@@ -0,0 +1,85 @@
+package me.donghun.eventrestapiserver.events;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 검색용 토크나이저. 글자/숫자가 아닌 문자와 한글/비한글 경계에서 단어를 나눈다.
+// 영문/숫자 단어는 소문자로 그대로 쓰고, 한글은 조사가 붙어도 찾을 수 있도록 두 글자씩(bigram) 자른다
+// 색인할 때는 한 글자 검색어(예: 역 -> 강남역)도 찾을 수 있도록 한글 음절 하나하나(unigram)도 넣는다
+final class EventTokenizer {
+
+    private EventTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean unigrams) {
+        if(text == null || text.isEmpty()) {
+            return List.of();
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        int length = normalized.length();
+        int i = 0;
+        while(i < length) {
+            int codePoint = normalized.codePointAt(i);
+            if(!Character.isLetterOrDigit(codePoint)) {
+                i += Character.charCount(codePoint);
+                continue;
+            }
+
+            int start = i;
+            boolean hangul = isHangul(codePoint);
+            while(i < length) {
+                codePoint = normalized.codePointAt(i);
+                if(!Character.isLetterOrDigit(codePoint) || isHangul(codePoint) != hangul) {
+                    break;
+                }
+                i += Character.charCount(codePoint);
+            }
+
+            String word = normalized.substring(start, i);
+            if(hangul) {
+                addBigrams(word, tokens);
+                if(unigrams && word.length() > 1) {
+                    addUnigrams(word, tokens);
+                }
+            }
+            else {
+                tokens.add(word);
+            }
+        }
+        return tokens;
+    }
+
+    // 한글 음절은 모두 BMP 에 있으므로 char 단위로 자른다
+    private static void addBigrams(String word, List<String> tokens) {
+        if(word.length() == 1) {
+            tokens.add(word);
+            return;
+        }
+        for(int i = 0; i < word.length() - 1; i++) {
+            tokens.add(word.substring(i, i + 2));
+        }
+    }
+
+    private static void addUnigrams(String word, List<String> tokens) {
+        for(int i = 0; i < word.length(); i++) {
+            tokens.add(word.substring(i, i + 1));
+        }
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+
+}
@@ -0,0 +1,11 @@
+package me.donghun.eventrestapiserver.events;
+
+import java.time.LocalDateTime;
+
+public interface EventTransition {
+
+    Integer getEventId();
+
+    LocalDateTime getFireAt();
+
+}
@@ -2,26 +2,95 @@ package me.donghun.eventrestapiserver.events;
 
 import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 @Component
 public class EventValidator {
 
+    private static final List<String> PRICE_FIELDS = List.of("basePrice", "maxPrice");
+    private static final List<String> DATE_FIELDS = List.of("beginEnrollmentDateTime", "closeEnrollmentDateTime",
+            "beginEventDateTime", "endEventDateTime");
+
+    private final Validator validator;
+    private final SpringValidatorAdapter beanValidator;
+
+    public EventValidator(Validator validator) {
+        this.validator = validator;
+        this.beanValidator = new SpringValidatorAdapter(validator);
+    }
+
+    // @Valid 바인딩을 거치지 않는 경우(batch, import)에 사용. Bean Validation 후 비즈니스 로직 검증.
+    // 배열 안의 null 처럼 이벤트 자체가 없으면 global error 하나만 남긴다
+    public void validateAll(EventDto eventDto, Errors errors) {
+        if(eventDto == null) {
+            errors.reject("NotNull", "event must not be null");
+            return;
+        }
+
+        beanValidator.validate(eventDto, errors);
+        if(errors.hasErrors()) {
+            return;
+        }
+
+        validate(eventDto, errors);
+    }
+
+    // PATCH처럼 일부 필드만 바뀐 경우, 바뀐 필드의 제약과 그 필드가 관련된 비즈니스 로직만 검증.
+    // 날짜는 서로 비교하므로 하나라도 바뀌면 네 날짜 모두 값이 있어야 한다
+    public void validateFields(EventDto eventDto, Collection<String> fields, Errors errors) {
+        boolean datesChanged = fields.stream().anyMatch(DATE_FIELDS::contains);
+        Set<String> checkedFields = new LinkedHashSet<>(fields);
+        if(datesChanged) {
+            checkedFields.addAll(DATE_FIELDS);
+        }
+
+        for(String field : checkedFields) {
+            for(ConstraintViolation<EventDto> violation : validator.validateProperty(eventDto, field)) {
+                String code = violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName();
+                errors.rejectValue(field, code, violation.getMessage());
+            }
+        }
+        if(errors.hasErrors()) {
+            return;
+        }
+
+        if(fields.stream().anyMatch(PRICE_FIELDS::contains)) {
+            validatePrices(eventDto, errors);
+        }
+        if(datesChanged) {
+            validateDates(eventDto, errors);
+        }
+    }
+
     public void validate(EventDto eventDto, Errors errors) {
+        validatePrices(eventDto, errors);
+        validateDates(eventDto, errors);
+
+        // TODO 나머지에 대한 validation
+    }
+
+    private void validatePrices(EventDto eventDto, Errors errors) {
         if(eventDto.getBasePrice() > eventDto.getMaxPrice() && eventDto.getMaxPrice() != 0) {
             errors.rejectValue("basePrice", "wrongValue", "when maxPrice != 0, maxPrice should be larger than basePrice");
             errors.rejectValue("maxPrice", "wrongValue", "when maxPrice != 0, maxPrice should be larger than basePrice");
         }
+    }
 
+    private void validateDates(EventDto eventDto, Errors errors) {
         LocalDateTime endEventDateTime = eventDto.getEndEventDateTime();
         if(endEventDateTime.isBefore(eventDto.getBeginEventDateTime()) ||
         endEventDateTime.isBefore(eventDto.getBeginEnrollmentDateTime()) ||
         endEventDateTime.isBefore(eventDto.getCloseEnrollmentDateTime())) {
             errors.rejectValue("endEventDateTime", "wrongValue", "endEventDateTime should be end");
         }
-
-        // TODO 나머지에 대한 validation
     }
 
 }
@@ -0,0 +1,49 @@
+package me.donghun.eventrestapiserver.events;
+
+import java.util.List;
+
+// 이벤트가 생성되거나 수정되어 commit 된 뒤에 발행된다.
+// 이벤트 정보를 메모리에 따로 들고 있는 컴포넌트(상태 스케줄러, 인덱스 등)가 받아서 갱신한다.
+// 생성인지는 발행하는 쪽이 정한다 (version 으로 짐작하면 아무것도 바뀌지 않은 수정도 생성으로 보인다).
+// versionIncrease 는 수정으로 DB의 version 합계가 늘어난 양이다. 실제로 update 되지 않은 이벤트는 0 이다
+public class EventsChangedEvent {
+
+    private final List<Event> events;
+    private final boolean created;
+    private final long versionIncrease;
+
+    private EventsChangedEvent(List<Event> events, boolean created, long versionIncrease) {
+        this.events = List.copyOf(events);
+        this.created = created;
+        this.versionIncrease = versionIncrease;
+    }
+
+    public static EventsChangedEvent created(List<Event> events) {
+        return new EventsChangedEvent(events, true, 0);
+    }
+
+    public static EventsChangedEvent created(Event event) {
+        return created(List.of(event));
+    }
+
+    public static EventsChangedEvent updated(List<Event> events, long versionIncrease) {
+        return new EventsChangedEvent(events, false, versionIncrease);
+    }
+
+    public static EventsChangedEvent updated(Event event, long versionIncrease) {
+        return updated(List.of(event), versionIncrease);
+    }
+
+    public List<Event> getEvents() {
+        return events;
+    }
+
+    public boolean isCreated() {
+        return created;
+    }
+
+    public long getVersionIncrease() {
+        return versionIncrease;
+    }
+
+}
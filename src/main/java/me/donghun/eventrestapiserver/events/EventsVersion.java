@@ -0,0 +1,9 @@
+package me.donghun.eventrestapiserver.events;
+
+public interface EventsVersion {
+
+    long getTotal();
+
+    long getVersionSum();
+
+}
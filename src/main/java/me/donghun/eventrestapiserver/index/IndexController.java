@@ -1,19 +1,18 @@
 package me.donghun.eventrestapiserver.index;
 
-import me.donghun.eventrestapiserver.events.EventController;
+import me.donghun.eventrestapiserver.events.EventLinks;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-
 @RestController
 public class IndexController {
 
     @GetMapping("/api")
     public RepresentationModel index() {
         RepresentationModel index = new RepresentationModel();
-        index.add(linkTo(EventController.class).withRel("events"));
+        index.add(Link.of(EventLinks.eventsHref()).withRel("events"));
         return index;
     }
 
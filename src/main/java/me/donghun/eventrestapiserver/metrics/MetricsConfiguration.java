@@ -0,0 +1,58 @@
+package me.donghun.eventrestapiserver.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 단계별 타이머(events.phase)와 검증 오류 카운터(events.validation.rejections), 느린 요청 기록(SlowRequestLog) 설정.
+// 캐시, 커넥션 풀 지표는 Spring Boot 가 등록하며 모두 /actuator/prometheus 로 나간다
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfiguration implements WebMvcConfigurer {
+
+    private final ObjectProvider<javax.validation.Validator> beanValidator;
+    private final ObjectProvider<PhaseTimer> phaseTimer;
+    private final ObjectProvider<SlowRequestLog> slowRequestLog;
+
+    public MetricsConfiguration(ObjectProvider<javax.validation.Validator> beanValidator,
+                                ObjectProvider<PhaseTimer> phaseTimer,
+                                ObjectProvider<SlowRequestLog> slowRequestLog) {
+        this.beanValidator = beanValidator;
+        this.phaseTimer = phaseTimer;
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    @Bean
+    static PhaseTimingPostProcessor phaseTimingPostProcessor(ObjectProvider<PhaseTimer> phaseTimer) {
+        return new PhaseTimingPostProcessor(phaseTimer);
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer sqlProfilerCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlProfiler());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlProfiler.Listener.class.getName());
+        };
+    }
+
+    // @Valid 에 쓰이는 MVC validator
+    @Override
+    public Validator getValidator() {
+        javax.validation.Validator validator = beanValidator.getObject();
+        SmartValidator delegate = validator instanceof SmartValidator
+                ? (SmartValidator) validator : new SpringValidatorAdapter(validator);
+        return new TimedValidator(delegate, phaseTimer.getObject());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestProfilingInterceptor(phaseTimer.getObject(), slowRequestLog.getObject()));
+    }
+
+}
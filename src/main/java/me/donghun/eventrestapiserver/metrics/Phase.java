@@ -0,0 +1,26 @@
+package me.donghun.eventrestapiserver.metrics;
+
+// 요청 처리 단계. tag 는 지표의 phase 태그 값
+public enum Phase {
+
+    BINDING("binding"),
+    BEAN_VALIDATION("bean-validation"),
+    EVENT_VALIDATOR("event-validator"),
+    MAPPING("mapping"),
+    REPOSITORY("repository"),
+    SERIALIZATION("serialization");
+
+    // values() 는 호출마다 배열을 복사하므로 한 번만 만든다
+    static final Phase[] ALL = values();
+
+    private final String tag;
+
+    Phase(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+}
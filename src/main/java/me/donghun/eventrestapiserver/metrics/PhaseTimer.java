@@ -0,0 +1,95 @@
+package me.donghun.eventrestapiserver.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 요청 처리 단계(phase)별 시간을 events.phase 타이머에 handler 태그와 함께 기록하고, 요청 중이면 RequestProfile 에도 더한다.
+// 같은 단계 안에서 다시 불린 것(예: repository default 메서드가 다른 repository 메서드 호출)은 바깥 것만 잰다.
+// 타이머는 (handler, phase) 마다 한 번만 찾아두므로 기록할 때 객체를 만들지 않는다
+@Component
+public class PhaseTimer {
+
+    public static final String METRIC_NAME = "events.phase";
+    // 요청 밖(import, 스케줄러 등)에서 불린 경우의 handler 태그
+    private static final String NO_HANDLER = "none";
+
+    private static final ThreadLocal<Phase> CURRENT_PHASE = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public PhaseTimer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void time(Phase phase, Runnable runnable) {
+        if(CURRENT_PHASE.get() == phase) {
+            runnable.run();
+            return;
+        }
+
+        Phase outer = enter(phase);
+        long start = System.nanoTime();
+        try {
+            runnable.run();
+        } finally {
+            exit(phase, outer, start);
+        }
+    }
+
+    public Object invoke(Phase phase, MethodInvocation invocation) throws Throwable {
+        if(invocation.getMethod().getDeclaringClass() == Object.class || CURRENT_PHASE.get() == phase) {
+            return invocation.proceed();
+        }
+
+        Phase outer = enter(phase);
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            exit(phase, outer, start);
+        }
+    }
+
+    public void record(Phase phase, long nanos) {
+        RequestProfile profile = RequestProfile.current();
+        profile.addPhase(phase, nanos);
+        String handler = profile.isActive() ? profile.getHandler() : NO_HANDLER;
+
+        Timer[] handlerTimers = timers.computeIfAbsent(handler, key -> new Timer[Phase.ALL.length]);
+        Timer timer = handlerTimers[phase.ordinal()];
+        if(timer == null) {
+            // 동시에 처음 기록해도 registry 가 같은 Timer 를 돌려준다
+            timer = Timer.builder(METRIC_NAME)
+                    .description("time spent in each phase of request handling")
+                    .tag("phase", phase.getTag())
+                    .tag("handler", handler)
+                    .register(meterRegistry);
+            handlerTimers[phase.ordinal()] = timer;
+        }
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Phase enter(Phase phase) {
+        Phase outer = CURRENT_PHASE.get();
+        CURRENT_PHASE.set(phase);
+        return outer;
+    }
+
+    private void exit(Phase phase, Phase outer, long start) {
+        record(phase, System.nanoTime() - start);
+        if(outer == null) {
+            CURRENT_PHASE.remove();
+        }
+        else {
+            CURRENT_PHASE.set(outer);
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package me.donghun.eventrestapiserver.metrics;
+
+import me.donghun.eventrestapiserver.events.EventMapper;
+import me.donghun.eventrestapiserver.events.EventProjections;
+import me.donghun.eventrestapiserver.events.EventRepository;
+import me.donghun.eventrestapiserver.events.EventValidator;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.Map;
+
+// EventValidator, EventMapper, EventRepository(EventProjections 포함) 호출 시간을 PhaseTimer 로 잰다.
+// 이미 프록시인 빈(repository)은 기존 프록시 맨 앞에 interceptor 를 붙이고, 아니면 클래스 프록시로 감싼다
+class PhaseTimingPostProcessor implements BeanPostProcessor {
+
+    private static final Map<Class<?>, Phase> PHASES = Map.of(
+            EventValidator.class, Phase.EVENT_VALIDATOR,
+            EventMapper.class, Phase.MAPPING,
+            EventRepository.class, Phase.REPOSITORY,
+            EventProjections.class, Phase.REPOSITORY);
+
+    // BeanPostProcessor 는 일찍 만들어지므로 MeterRegistry 는 처음 호출될 때 가져온다
+    private final ObjectProvider<PhaseTimer> phaseTimerProvider;
+    private volatile PhaseTimer phaseTimer;
+
+    PhaseTimingPostProcessor(ObjectProvider<PhaseTimer> phaseTimerProvider) {
+        this.phaseTimerProvider = phaseTimerProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        for(Map.Entry<Class<?>, Phase> phase : PHASES.entrySet()) {
+            if(phase.getKey().isInstance(bean)) {
+                return timed(bean, phase.getValue());
+            }
+        }
+        return bean;
+    }
+
+    private Object timed(Object bean, Phase phase) {
+        MethodInterceptor interceptor = invocation -> phaseTimer().invoke(phase, invocation);
+        if(bean instanceof Advised && !((Advised) bean).isFrozen()) {
+            ((Advised) bean).addAdvice(0, interceptor);
+            return bean;
+        }
+
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy();
+    }
+
+    private PhaseTimer phaseTimer() {
+        PhaseTimer resolved = phaseTimer;
+        if(resolved == null) {
+            resolved = phaseTimerProvider.getObject();
+            phaseTimer = resolved;
+        }
+        return resolved;
+    }
+
+}
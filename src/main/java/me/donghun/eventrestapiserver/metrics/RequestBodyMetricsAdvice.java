@@ -0,0 +1,45 @@
+package me.donghun.eventrestapiserver.metrics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+// @RequestBody 를 읽어 객체로 만드는(binding) 시간을 잰다
+@ControllerAdvice
+public class RequestBodyMetricsAdvice extends RequestBodyAdviceAdapter {
+
+    private final PhaseTimer phaseTimer;
+
+    public RequestBodyMetricsAdvice(PhaseTimer phaseTimer) {
+        this.phaseTimer = phaseTimer;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestProfile.current().bindingStarted(System.nanoTime());
+        return inputMessage;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestProfile profile = RequestProfile.current();
+        if(profile.getBindingStartedAt() != 0) {
+            phaseTimer.record(Phase.BINDING, System.nanoTime() - profile.getBindingStartedAt());
+            profile.bindingStarted(0);
+        }
+        return body;
+    }
+
+}
@@ -0,0 +1,132 @@
+package me.donghun.eventrestapiserver.metrics;
+
+// 요청 하나를 처리하는 동안의 단계별 시간과 SQL 실행 기록. 스레드마다 하나를 만들어 두고 요청마다 지워서 다시 쓴다.
+// 요청 밖(스케줄러, import 등)에서는 active 가 아니므로 아무것도 남기지 않는다
+final class RequestProfile {
+
+    static final int MAX_STATEMENTS = 64;
+
+    private static final ThreadLocal<RequestProfile> CURRENT = ThreadLocal.withInitial(RequestProfile::new);
+
+    private boolean active;
+    private String handler;
+    private long startedAt;
+    private long startedAtMillis;
+    private final long[] phaseNanos = new long[Phase.ALL.length];
+    private long bindingStartedAt;
+    private long serializationStartedAt;
+    // 실행한 SQL. MAX_STATEMENTS 를 넘는 것은 개수(statementCount)만 센다
+    private final String[] statementSql = new String[MAX_STATEMENTS];
+    private final long[] statementNanos = new long[MAX_STATEMENTS];
+    private int statementCount;
+    private String preparedSql;
+    private long statementStartedAt;
+
+    static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    void begin(String handler) {
+        active = true;
+        this.handler = handler;
+        startedAt = System.nanoTime();
+        startedAtMillis = System.currentTimeMillis();
+        for(int phase = 0; phase < phaseNanos.length; phase++) {
+            phaseNanos[phase] = 0;
+        }
+        bindingStartedAt = 0;
+        serializationStartedAt = 0;
+        for(int statement = 0; statement < Math.min(statementCount, MAX_STATEMENTS); statement++) {
+            statementSql[statement] = null;
+        }
+        statementCount = 0;
+        preparedSql = null;
+        statementStartedAt = 0;
+    }
+
+    void end() {
+        active = false;
+        handler = null;
+        preparedSql = null;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    String getHandler() {
+        return handler;
+    }
+
+    long getStartedAt() {
+        return startedAt;
+    }
+
+    long getStartedAtMillis() {
+        return startedAtMillis;
+    }
+
+    void addPhase(Phase phase, long nanos) {
+        if(active) {
+            phaseNanos[phase.ordinal()] += nanos;
+        }
+    }
+
+    long getPhaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    void bindingStarted(long now) {
+        bindingStartedAt = now;
+    }
+
+    long getBindingStartedAt() {
+        return bindingStartedAt;
+    }
+
+    void serializationStarted(long now) {
+        serializationStartedAt = now;
+    }
+
+    long getSerializationStartedAt() {
+        return serializationStartedAt;
+    }
+
+    void statementPrepared(String sql) {
+        if(active) {
+            preparedSql = sql;
+        }
+    }
+
+    void statementStarted(long now) {
+        if(active) {
+            statementStartedAt = now;
+        }
+    }
+
+    // batch 는 addBatch 를 여러 번 해도 마지막에 한 번 실행되므로 한 건으로 남는다
+    void statementEnded(long now) {
+        if(!active || statementStartedAt == 0) {
+            return;
+        }
+        if(statementCount < MAX_STATEMENTS) {
+            statementSql[statementCount] = preparedSql;
+            statementNanos[statementCount] = now - statementStartedAt;
+        }
+        statementCount++;
+        statementStartedAt = 0;
+    }
+
+    int getStatementCount() {
+        return statementCount;
+    }
+
+    String getStatementSql(int statement) {
+        return statementSql[statement];
+    }
+
+    long getStatementNanos(int statement) {
+        return statementNanos[statement];
+    }
+
+}
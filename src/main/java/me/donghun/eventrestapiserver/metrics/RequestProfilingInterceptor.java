@@ -0,0 +1,67 @@
+package me.donghun.eventrestapiserver.metrics;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 컨트롤러 요청마다 RequestProfile 을 시작하고, 끝나면 SlowRequestLog 에 넘긴다.
+// 직렬화는 본문을 쓰기 시작한 때(ResponseMetricsAdvice)부터 postHandle 까지로 잰다.
+// 스트리밍(비동기) 응답은 다른 스레드에서 끝나므로 기록하지 않는다
+class RequestProfilingInterceptor implements AsyncHandlerInterceptor {
+
+    private final PhaseTimer phaseTimer;
+    private final SlowRequestLog slowRequestLog;
+    // 예: EventController.createEvent
+    private final Map<Method, String> handlerNames = new ConcurrentHashMap<>();
+
+    RequestProfilingInterceptor(PhaseTimer phaseTimer, SlowRequestLog slowRequestLog) {
+        this.phaseTimer = phaseTimer;
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if(handler instanceof HandlerMethod) {
+            RequestProfile.current().begin(handlerName((HandlerMethod) handler));
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        RequestProfile profile = RequestProfile.current();
+        if(profile.isActive() && profile.getSerializationStartedAt() != 0) {
+            phaseTimer.record(Phase.SERIALIZATION, System.nanoTime() - profile.getSerializationStartedAt());
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestProfile profile = RequestProfile.current();
+        if(profile.isActive()) {
+            slowRequestLog.record(profile, request, response.getStatus());
+            profile.end();
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestProfile.current().end();
+    }
+
+    private String handlerName(HandlerMethod handlerMethod) {
+        String name = handlerNames.get(handlerMethod.getMethod());
+        if(name == null) {
+            name = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            handlerNames.put(handlerMethod.getMethod(), name);
+        }
+        return name;
+    }
+
+}
@@ -0,0 +1,65 @@
+package me.donghun.eventrestapiserver.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.donghun.eventrestapiserver.common.ErrorsModel;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// 응답 본문을 쓰기 직전 시각을 남겨두면 RequestProfilingInterceptor 가 postHandle 에서 HAL/Jackson 직렬화 시간을 기록한다.
+// ErrorsModel 로 나가는 검증 오류는 field, code 별로 센다
+@ControllerAdvice
+public class ResponseMetricsAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String REJECTIONS_METRIC_NAME = "events.validation.rejections";
+    // 전역 오류의 field 태그
+    private static final String NO_FIELD = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public ResponseMetricsAdvice(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if(body instanceof ErrorsModel) {
+            countRejections(((ErrorsModel) body).getErrors());
+        }
+        RequestProfile.current().serializationStarted(System.nanoTime());
+        return body;
+    }
+
+    private void countRejections(Errors errors) {
+        for(FieldError fieldError : errors.getFieldErrors()) {
+            rejections(fieldError.getField(), fieldError.getCode()).increment();
+        }
+        for(ObjectError globalError : errors.getGlobalErrors()) {
+            rejections(NO_FIELD, globalError.getCode()).increment();
+        }
+    }
+
+    private Counter rejections(String field, String code) {
+        return Counter.builder(REJECTIONS_METRIC_NAME)
+                .description("validation errors returned to clients")
+                .tag("field", field)
+                .tag("code", code == null ? "none" : code)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,96 @@
+package me.donghun.eventrestapiserver.metrics;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+// SlowRequestLog 에 남는 느린 요청 한 건. 시간은 모두 밀리초
+public class SlowRequest {
+
+    private final long sequence;
+    private final Instant startedAt;
+    private final String method;
+    private final String uri;
+    private final String handler;
+    private final int status;
+    private final double durationMillis;
+    private final Map<String, Double> phases;
+    private final List<Statement> statements;
+    private final int statementCount;
+
+    SlowRequest(long sequence, Instant startedAt, String method, String uri, String handler, int status,
+                double durationMillis, Map<String, Double> phases, List<Statement> statements, int statementCount) {
+        this.sequence = sequence;
+        this.startedAt = startedAt;
+        this.method = method;
+        this.uri = uri;
+        this.handler = handler;
+        this.status = status;
+        this.durationMillis = durationMillis;
+        this.phases = phases;
+        this.statements = statements;
+        this.statementCount = statementCount;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public double getDurationMillis() {
+        return durationMillis;
+    }
+
+    public Map<String, Double> getPhases() {
+        return phases;
+    }
+
+    // 앞쪽 RequestProfile.MAX_STATEMENTS 건까지만 담긴다
+    public List<Statement> getStatements() {
+        return statements;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public static class Statement {
+
+        private final String sql;
+        private final double durationMillis;
+
+        Statement(String sql, double durationMillis) {
+            this.sql = sql;
+            this.durationMillis = durationMillis;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public double getDurationMillis() {
+            return durationMillis;
+        }
+
+    }
+
+}
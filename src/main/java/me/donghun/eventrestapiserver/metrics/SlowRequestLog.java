@@ -0,0 +1,73 @@
+package me.donghun.eventrestapiserver.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// threshold 를 넘은 요청의 단계별 시간과 SQL 을 고정 크기 ring buffer 에 남긴다 (/actuator/slowrequests).
+// 쓰기는 순번을 하나 받아 그 칸을 덮어쓰기만 하므로 lock 이 없다.
+// threshold 아래인 요청은 RequestProfile 을 비교만 하고 버리므로 객체를 만들지 않는다
+@Component
+public class SlowRequestLog {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<SlowRequest> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowRequestLog(@Value("${events.slow-requests.threshold:500ms}") Duration threshold,
+                          @Value("${events.slow-requests.capacity:100}") int capacity) {
+        this.thresholdNanos = threshold.toNanos();
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    void record(RequestProfile profile, HttpServletRequest request, int status) {
+        long durationNanos = System.nanoTime() - profile.getStartedAt();
+        if(durationNanos < thresholdNanos) {
+            return;
+        }
+
+        Map<String, Double> phases = new LinkedHashMap<>();
+        for(Phase phase : Phase.ALL) {
+            phases.put(phase.getTag(), profile.getPhaseNanos(phase) / NANOS_PER_MILLI);
+        }
+        int statementCount = profile.getStatementCount();
+        List<SlowRequest.Statement> statements = new ArrayList<>();
+        for(int statement = 0; statement < Math.min(statementCount, RequestProfile.MAX_STATEMENTS); statement++) {
+            statements.add(new SlowRequest.Statement(profile.getStatementSql(statement),
+                    profile.getStatementNanos(statement) / NANOS_PER_MILLI));
+        }
+        String uri = request.getQueryString() == null ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+
+        long next = sequence.getAndIncrement();
+        slots.set((int) (next % slots.length()), new SlowRequest(next, Instant.ofEpochMilli(profile.getStartedAtMillis()),
+                request.getMethod(), uri, profile.getHandler(), status, durationNanos / NANOS_PER_MILLI,
+                phases, statements, statementCount));
+    }
+
+    // 최근 것부터
+    public List<SlowRequest> recent() {
+        List<SlowRequest> recent = new ArrayList<>(slots.length());
+        for(int slot = 0; slot < slots.length(); slot++) {
+            SlowRequest slowRequest = slots.get(slot);
+            if(slowRequest != null) {
+                recent.add(slowRequest);
+            }
+        }
+        recent.sort(Comparator.comparingLong(SlowRequest::getSequence).reversed());
+        return recent;
+    }
+
+}
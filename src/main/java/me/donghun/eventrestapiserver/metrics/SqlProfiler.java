@@ -0,0 +1,41 @@
+package me.donghun.eventrestapiserver.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate 가 실행하는 SQL 을 요청의 RequestProfile 에 남긴다.
+// StatementInspector 로 SQL 문자열을, Listener 의 JDBC 실행 시작/끝 콜백으로 실행 시간을 얻는다
+class SqlProfiler implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestProfile.current().statementPrepared(sql);
+        return sql;
+    }
+
+    // hibernate.session.events.auto 로 등록한다. 상태가 없으며 Hibernate 가 세션마다 하나씩 만든다
+    public static class Listener extends BaseSessionEventListener {
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            RequestProfile.current().statementStarted(System.nanoTime());
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            RequestProfile.current().statementEnded(System.nanoTime());
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            RequestProfile.current().statementStarted(System.nanoTime());
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            RequestProfile.current().statementEnded(System.nanoTime());
+        }
+
+    }
+
+}
@@ -0,0 +1,32 @@
+package me.donghun.eventrestapiserver.metrics;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+// @Valid 로 하는 Bean Validation 시간을 잰다
+class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+    private final PhaseTimer phaseTimer;
+
+    TimedValidator(SmartValidator delegate, PhaseTimer phaseTimer) {
+        this.delegate = delegate;
+        this.phaseTimer = phaseTimer;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        phaseTimer.time(Phase.BEAN_VALIDATION, () -> delegate.validate(target, errors));
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        phaseTimer.time(Phase.BEAN_VALIDATION, () -> delegate.validate(target, errors, validationHints));
+    }
+
+}
@@ -0,0 +1,63 @@
+package me.donghun.eventrestapiserver.reactive;
+
+import me.donghun.eventrestapiserver.common.ErrorsSerializer;
+import me.donghun.eventrestapiserver.events.Event;
+import me.donghun.eventrestapiserver.events.EventJacksonModule;
+import me.donghun.eventrestapiserver.events.EventMapper;
+import me.donghun.eventrestapiserver.events.EventValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.hateoas.support.WebStack;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+import reactor.core.publisher.Flux;
+
+// /api/events 의 생성, 목록, 조회, 수정을 WebFlux + R2DBC 로 제공하는 별도 실행 구성.
+// DB가 느릴 때 요청마다 스레드를 잡고 있지 않도록 하기 위한 것으로, reactive 프로파일로만 뜬다
+// (servlet 애플리케이션의 컴포넌트 스캔에도 걸리지만 프로파일이 없으므로 등록되지 않는다).
+// 이 패키지만 스캔하고, 검증과 매핑, HAL 직렬화는 servlet 스택과 같은 빈을 가져다 쓴다
+@Profile(ReactiveEventApiApplication.PROFILE)
+@SpringBootApplication(exclude = {DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class})
+@EnableHypermediaSupport(type = EnableHypermediaSupport.HypermediaType.HAL, stacks = WebStack.WEBFLUX)
+@Import({EventValidator.class, EventMapper.class, EventJacksonModule.class, ErrorsSerializer.class})
+public class ReactiveEventApiApplication implements WebFluxConfigurer {
+
+    public static final String PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveEventApiApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles(PROFILE)
+                .run(args);
+    }
+
+    // servlet 애플리케이션과 같은 이벤트를 같은 순서로 넣어서 두 스택이 같은 데이터로 시작하게 한다
+    @Bean
+    public ApplicationRunner applicationRunner(ReactiveEventWriter eventWriter, @Value("${events.seed.count}") int seedCount) {
+        return args -> Flux.range(0, seedCount)
+                .concatMap(i -> eventWriter.insert(Event.builder()
+                        .name("event" + i)
+                        .description("test event")
+                        .build()))
+                .blockLast();
+    }
+
+    // servlet 스택과 같은 page, size, sort 파라미터 (기본 size 20)
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new ReactivePageableHandlerMethodArgumentResolver());
+    }
+
+}
@@ -0,0 +1,198 @@
+package me.donghun.eventrestapiserver.reactive;
+
+import me.donghun.eventrestapiserver.common.ErrorsModel;
+import me.donghun.eventrestapiserver.common.LinkFactory;
+import me.donghun.eventrestapiserver.events.Event;
+import me.donghun.eventrestapiserver.events.EventDto;
+import me.donghun.eventrestapiserver.events.EventETags;
+import me.donghun.eventrestapiserver.events.EventLinks;
+import me.donghun.eventrestapiserver.events.EventMapper;
+import me.donghun.eventrestapiserver.events.EventModel;
+import me.donghun.eventrestapiserver.events.EventValidator;
+import me.donghun.eventrestapiserver.events.EventsVersion;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// EventController 의 생성, 목록, 조회, 수정을 WebFlux 로 옮긴 것. 응답(HAL 링크, ErrorsModel, ETag, 상태 코드)은 같다.
+// @Valid 바인딩 대신 EventValidator.validateAll 로 Bean Validation 과 비즈니스 로직 검증을 한 번에 한다
+@Profile(ReactiveEventApiApplication.PROFILE)
+@Controller
+@RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_VALUE)
+public class ReactiveEventController {
+
+    private final ReactiveEventRepository eventRepository;
+    private final ReactiveEventWriter eventWriter;
+    private final EventMapper eventMapper;
+    private final EventValidator eventValidator;
+
+    public ReactiveEventController(ReactiveEventRepository eventRepository, ReactiveEventWriter eventWriter,
+                                   EventMapper eventMapper, EventValidator eventValidator) {
+        this.eventRepository = eventRepository;
+        this.eventWriter = eventWriter;
+        this.eventMapper = eventMapper;
+        this.eventValidator = eventValidator;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity> createEvent(@RequestBody EventDto eventDto, ServerHttpRequest request) {
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        eventValidator.validateAll(eventDto, errors);
+        if(errors.hasErrors()) {
+            return Mono.just(badRequest(errors, request));
+        }
+
+        Event event = eventMapper.toEvent(eventDto);
+        event.update();
+        return eventWriter.insert(event).map(newEvent -> withLinks(request, () -> {
+            EventModel eventModel = new EventModel(newEvent);
+            eventModel.add(EventLinks.query());
+            eventModel.add(EventLinks.update(newEvent.getId()));
+            eventModel.add(Link.of("/docs/index.html#resources-events-create").withRel("profile"));
+            return ResponseEntity.created(URI.create(EventLinks.eventHref(newEvent.getId())))
+                    .eTag(EventETags.of(newEvent))
+                    .body(eventModel);
+        }));
+    }
+
+    // 전체 개수는 ETag 를 계산할 때 센 것을 그대로 쓴다
+    @GetMapping
+    public Mono<ResponseEntity> getEventsList(Pageable pageable, ServerWebExchange exchange) {
+        return eventRepository.findEventsVersion().<ResponseEntity>flatMap(eventsVersion -> {
+            String eTag = EventETags.of(eventsVersion, pageable, null);
+            if(exchange.checkNotModified(eTag)) {
+                return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+            }
+
+            return eventRepository.findAllBy(pageable).collectList()
+                    .map(events -> withLinks(exchange.getRequest(), () -> ResponseEntity.ok().eTag(eTag)
+                            .body(pagedModel(events, pageable, eventsVersion, exchange.getRequest()))));
+        });
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity> getEvents(@PathVariable Integer id, ServerWebExchange exchange) {
+        return eventRepository.findById(id)
+                .<ResponseEntity>map(event -> {
+                    String eTag = EventETags.of(event);
+                    if(exchange.checkNotModified(eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+                    }
+
+                    return withLinks(exchange.getRequest(), () -> {
+                        EventModel eventModel = new EventModel(event);
+                        eventModel.add(Link.of("/docs/index.html#resources-events-get").withRel("profile"));
+                        return ResponseEntity.ok().eTag(eTag).body(eventModel);
+                    });
+                })
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity> updateEvents(@RequestBody EventDto eventDto,
+                                             @PathVariable Integer id,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                             ServerHttpRequest request) {
+        return eventRepository.findById(id)
+                .<ResponseEntity>flatMap(existingEvent -> {
+                    if(ifMatch != null && !EventETags.matches(ifMatch, EventETags.of(existingEvent))) {
+                        return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                                .eTag(EventETags.of(existingEvent)).build());
+                    }
+
+                    Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+                    eventValidator.validateAll(eventDto, errors);
+                    if(errors.hasErrors()) {
+                        return Mono.just(badRequest(errors, request));
+                    }
+
+                    eventMapper.update(eventDto, existingEvent);
+                    existingEvent.update();
+                    // 조회 이후 다른 요청이 먼저 수정했다면 version 검사에 걸린다. If-Match를 보냈다면 412, 아니면 409
+                    return eventWriter.update(existingEvent)
+                            .map(updatedEvent -> withLinks(request, () -> {
+                                EventModel eventModel = new EventModel(updatedEvent);
+                                eventModel.add(Link.of("/docs/index.html#resources-events-update").withRel("profile"));
+                                return ResponseEntity.ok().eTag(EventETags.of(updatedEvent)).body(eventModel);
+                            }))
+                            .onErrorResume(OptimisticLockingFailureException.class, e -> Mono.just(ResponseEntity
+                                    .status(ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT).build()));
+                })
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity badRequest(Errors errors, ServerHttpRequest request) {
+        return withLinks(request, () -> ResponseEntity.badRequest().body(new ErrorsModel(errors)));
+    }
+
+    // PagedResourcesAssembler 와 같은 순서, 같은 모양의 링크 (first, prev, self, next, last)
+    private PagedModel<EventModel> pagedModel(List<Event> events, Pageable pageable, EventsVersion eventsVersion,
+                                              ServerHttpRequest request) {
+        List<EventModel> content = events.stream().map(EventModel::new).collect(Collectors.toList());
+        long total = eventsVersion.getTotal();
+        int totalPages = pageable.getPageSize() == 0 ? 1 : (int) Math.ceil((double) total / pageable.getPageSize());
+        PagedModel<EventModel> pagedModel = PagedModel.of(content,
+                new PagedModel.PageMetadata(pageable.getPageSize(), pageable.getPageNumber(), total, totalPages));
+
+        boolean hasPrevious = pageable.getPageNumber() > 0;
+        boolean hasNext = pageable.getPageNumber() + 1 < totalPages;
+        if(hasPrevious || hasNext) {
+            pagedModel.add(pageLink(request, pageable, 0, IanaLinkRelations.FIRST));
+        }
+        if(hasPrevious) {
+            pagedModel.add(pageLink(request, pageable, pageable.getPageNumber() - 1, IanaLinkRelations.PREV));
+        }
+        pagedModel.add(pageLink(request, pageable, pageable.getPageNumber(), IanaLinkRelations.SELF));
+        if(hasNext) {
+            pagedModel.add(pageLink(request, pageable, pageable.getPageNumber() + 1, IanaLinkRelations.NEXT));
+        }
+        if(hasPrevious || hasNext) {
+            pagedModel.add(pageLink(request, pageable, Math.max(totalPages - 1, 0), IanaLinkRelations.LAST));
+        }
+        pagedModel.add(Link.of("/docs/index.html#resources-events-list").withRel("profile"));
+        return pagedModel;
+    }
+
+    private static Link pageLink(ServerHttpRequest request, Pageable pageable, int page, LinkRelation relation) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUri(request.getURI())
+                .replaceQueryParam("page", page)
+                .replaceQueryParam("size", pageable.getPageSize())
+                .replaceQueryParam("sort");
+        for(Sort.Order order : pageable.getSort()) {
+            builder.queryParam("sort", order.getProperty() + "," + order.getDirection().name().toLowerCase());
+        }
+        return Link.of(builder.build().toUriString()).withRel(relation);
+    }
+
+    // EventLinks 는 요청의 base URI 로 절대 경로 링크를 만든다
+    private static <T> T withLinks(ServerHttpRequest request, Supplier<T> supplier) {
+        String baseUri = UriComponentsBuilder.fromUri(request.getURI())
+                .replacePath(request.getPath().contextPath().value())
+                .replaceQuery(null)
+                .build().toUriString();
+        return LinkFactory.withBaseUri(baseUri, supplier);
+    }
+
+}
@@ -0,0 +1,20 @@
+package me.donghun.eventrestapiserver.reactive;
+
+import me.donghun.eventrestapiserver.events.Event;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// EventRepository 의 R2DBC 판. 같은 event 테이블 구조(reactive-schema.sql)를 쓴다.
+// Event 는 JPA @Entity 라 R2dbcRepository 를 상속해야 R2DBC 저장소로 잡힌다. 저장은 version 을 검사하는 ReactiveEventWriter 로 한다
+public interface ReactiveEventRepository extends R2dbcRepository<Event, Integer> {
+
+    Flux<Event> findAllBy(Pageable pageable);
+
+    // 목록 ETag 계산용
+    @Query("select count(*) as total, coalesce(sum(version), 0) as version_sum from event")
+    Mono<ReactiveEventsVersion> findEventsVersion();
+
+}
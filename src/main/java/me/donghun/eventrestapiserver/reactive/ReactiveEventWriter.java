@@ -0,0 +1,67 @@
+package me.donghun.eventrestapiserver.reactive;
+
+import me.donghun.eventrestapiserver.events.Event;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+import static org.springframework.data.relational.core.query.Query.query;
+
+// R2DBC 로 이벤트를 저장한다. Event.version 은 JPA @Version 이라 Spring Data R2DBC 가 낙관적 잠금에 쓰지 않으므로
+// (Spring Data @Version 을 같이 붙이면 JPA 가 거부한다) UPDATE ... WHERE id = ? AND version = ? 로 직접 검사한다
+@Profile(ReactiveEventApiApplication.PROFILE)
+@Component
+public class ReactiveEventWriter {
+
+    private static final SqlIdentifier ID = SqlIdentifier.unquoted("id");
+    private static final SqlIdentifier VERSION = SqlIdentifier.unquoted("version");
+
+    private final R2dbcEntityTemplate template;
+
+    public ReactiveEventWriter(R2dbcEntityTemplate template) {
+        this.template = template;
+    }
+
+    public Mono<Event> insert(Event event) {
+        event.setVersion(0L);
+        return template.insert(event);
+    }
+
+    // 읽었을 때의 version 이 그대로일 때만 모든 컬럼을 바꾸고 version 을 올린다
+    public Mono<Event> update(Event event) {
+        long expectedVersion = event.getVersion();
+        OutboundRow row = new OutboundRow();
+        template.getConverter().write(event, row);
+
+        Map<SqlIdentifier, Object> columns = new LinkedHashMap<>();
+        row.forEach((column, parameter) -> {
+            if(!column.equals(ID)) {
+                columns.put(column, parameter);
+            }
+        });
+        columns.put(VERSION, Parameter.from(expectedVersion + 1));
+
+        return template.update(Event.class)
+                .matching(query(where("id").is(event.getId()).and("version").is(expectedVersion)))
+                .apply(Update.from(columns))
+                .flatMap(updated -> {
+                    if(updated == 0) {
+                        return Mono.error(new OptimisticLockingFailureException(
+                                "event " + event.getId() + " was updated after version " + expectedVersion));
+                    }
+                    event.setVersion(expectedVersion + 1);
+                    return Mono.just(event);
+                });
+    }
+
+}
@@ -0,0 +1,26 @@
+package me.donghun.eventrestapiserver.reactive;
+
+import me.donghun.eventrestapiserver.events.EventsVersion;
+
+// R2DBC 는 인터페이스 projection 을 Event 로 읽은 뒤 투영하려 하므로, 집계 결과는 클래스 projection 으로 받는다
+class ReactiveEventsVersion implements EventsVersion {
+
+    private final long total;
+    private final long versionSum;
+
+    ReactiveEventsVersion(long total, long versionSum) {
+        this.total = total;
+        this.versionSum = versionSum;
+    }
+
+    @Override
+    public long getTotal() {
+        return total;
+    }
+
+    @Override
+    public long getVersionSum() {
+        return versionSum;
+    }
+
+}
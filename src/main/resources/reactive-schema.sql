@@ -0,0 +1,20 @@
+-- reactive 프로파일의 event 테이블. servlet 스택에서 Hibernate 가 만드는 것과 같은 컬럼이고, id 만 identity 로 만든다
+create table if not exists event (
+    id integer auto_increment primary key,
+    name varchar(255),
+    description varchar(255),
+    begin_enrollment_date_time timestamp,
+    close_enrollment_date_time timestamp,
+    begin_event_date_time timestamp,
+    end_event_date_time timestamp,
+    location varchar(255),
+    base_price integer not null,
+    max_price integer not null,
+    limit_of_enrollment integer not null,
+    offline boolean not null,
+    free boolean not null,
+    event_status varchar(255),
+    version bigint
+);
+
+create index if not exists idx_event_name_id on event (name, id);
@@ -0,0 +1,57 @@
+package me.donghun.eventrestapiserver.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import me.donghun.eventrestapiserver.events.EventJacksonModule;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.AnnotationLinkRelationProvider;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.hateoas.server.core.DelegatingLinkRelationProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.Errors;
+
+// 스프링 컨텍스트 없이 애플리케이션과 같은 HAL 출력을 내는 ObjectMapper 를 만든다
+public final class HalObjectMappers {
+
+    private HalObjectMappers() {
+    }
+
+    public static ObjectMapper create() {
+        return create(new JsonFactory());
+    }
+
+    // CBORFactory, SmileFactory 등으로 같은 HAL 구조를 다른 형식으로 쓴다
+    public static ObjectMapper create(JsonFactory factory) {
+        return create(factory, new Jackson2HalModule(), errorsModule(), new EventJacksonModule());
+    }
+
+    // EventJacksonModule 없이 Jackson 기본 직렬화만 사용한다
+    public static ObjectMapper createDefault() {
+        return create(new JsonFactory(), new Jackson2HalModule(), errorsModule());
+    }
+
+    private static ObjectMapper create(JsonFactory factory, Module... modules) {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(modules)
+                .build();
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DelegatingLinkRelationProvider(new AnnotationLinkRelationProvider(), new DefaultLinkRelationProvider()),
+                CurieProvider.NONE,
+                MessageResolver.DEFAULTS_ONLY));
+        return objectMapper;
+    }
+
+    private static SimpleModule errorsModule() {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(Errors.class, new ErrorsSerializer());
+        return module;
+    }
+
+}
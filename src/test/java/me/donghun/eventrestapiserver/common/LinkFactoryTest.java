@@ -0,0 +1,100 @@
+package me.donghun.eventrestapiserver.common;
+
+import me.donghun.eventrestapiserver.events.EventController;
+import me.donghun.eventrestapiserver.events.EventLinks;
+import me.donghun.eventrestapiserver.index.IndexController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.ForwardedHeaderFilter;
+
+import javax.servlet.http.HttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+// LinkFactory 로 만든 링크가 linkTo(...) 로 만든 링크와 같은지 확인
+class LinkFactoryTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void sameAsLinkTo() {
+        bind(new MockHttpServletRequest("GET", "/api/events"));
+
+        assertSameAsLinkTo();
+    }
+
+    @Test
+    void contextPathAndPort() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ctx/api/events");
+        request.setContextPath("/ctx");
+        request.setScheme("https");
+        request.setServerName("example.com");
+        request.setServerPort(8443);
+        bind(request);
+
+        assertThat(EventLinks.eventHref(1)).isEqualTo("https://example.com:8443/ctx/api/events/1");
+        assertSameAsLinkTo();
+    }
+
+    // 앱은 server.forward-headers-strategy=framework 로 ForwardedHeaderFilter 를 거친 요청에서 링크를 만든다
+    @Test
+    void xForwardedHeaders() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader("X-Forwarded-Proto", "https");
+        request.addHeader("X-Forwarded-Host", "api.example.com");
+        request.addHeader("X-Forwarded-Port", "443");
+        request.addHeader("X-Forwarded-Prefix", "/events-service");
+        bindForwarded(request);
+
+        assertThat(EventLinks.eventHref(1)).isEqualTo("https://api.example.com/events-service/api/events/1");
+        assertSameAsLinkTo();
+    }
+
+    @Test
+    void forwardedHeader() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader("Forwarded", "proto=https;host=api.example.com:8443");
+        bindForwarded(request);
+
+        assertThat(EventLinks.eventHref(1)).isEqualTo("https://api.example.com:8443/api/events/1");
+        assertSameAsLinkTo();
+    }
+
+    @Test
+    void withoutRequest() {
+        assertThat(EventLinks.eventHref(1)).isEqualTo("/api/events/1");
+    }
+
+    private void assertSameAsLinkTo() {
+        assertThat(EventLinks.eventsHref()).isEqualTo(linkTo(EventController.class).toUri().toString());
+        assertThat(EventLinks.eventHref(1)).isEqualTo(linkTo(EventController.class).slash(1).toUri().toString());
+        assertThat(LinkFactory.href(LinkFactory.mappedPath(IndexController.class, "index")))
+                .isEqualTo(linkTo(methodOn(IndexController.class).index()).toUri().toString());
+    }
+
+    private void bind(MockHttpServletRequest request) {
+        bind((HttpServletRequest) request);
+    }
+
+    private void bind(HttpServletRequest request) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    // ForwardedHeaderFilter 가 헤더를 반영해서 넘긴 요청으로 링크를 만든다
+    private void bindForwarded(MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        new ForwardedHeaderFilter().doFilter(request, new MockHttpServletResponse(), chain);
+        bind((HttpServletRequest) chain.getRequest());
+    }
+
+}
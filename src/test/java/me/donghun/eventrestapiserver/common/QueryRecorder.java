@@ -0,0 +1,154 @@
+package me.donghun.eventrestapiserver.common;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// DataSource 를 감싸서, 기록 중인 스레드에서 실행한 SQL 문과 JDBC 왕복 횟수를 센다.
+// SQL 문은 execute 한 번 또는 addBatch 한 번, 왕복은 execute 한 번 또는 executeBatch 한 번이다.
+// 다른 스레드(스케줄러, write-behind 등)의 SQL 은 세지 않는다.
+// 시퀀스에서 id 를 미리 받아오는 문장(allocationSize 마다 한 번)은 앞선 요청에 따라 나올 때도 안 나올 때도 있으므로 따로 모은다
+public final class QueryRecorder {
+
+    private static final Pattern SEQUENCE_FETCH = Pattern.compile("next value for|nextval\\(", Pattern.CASE_INSENSITIVE);
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private QueryRecorder() {
+    }
+
+    public static void start() {
+        CURRENT.set(new Recording());
+    }
+
+    public static Recording stop() {
+        Recording recording = CURRENT.get();
+        CURRENT.remove();
+        return recording == null ? new Recording() : recording;
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return new RecordingDataSource(dataSource);
+    }
+
+    public static final class Recording {
+
+        private final List<String> statements = new ArrayList<>();
+        private final List<String> sequenceFetches = new ArrayList<>();
+        private int roundTrips;
+
+        public List<String> getStatements() {
+            return statements;
+        }
+
+        public List<String> getSequenceFetches() {
+            return sequenceFetches;
+        }
+
+        public int getRoundTrips() {
+            return roundTrips;
+        }
+
+    }
+
+    private static final class RecordingDataSource extends DelegatingDataSource {
+
+        private RecordingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(Connection.class, super.getConnection(), null);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(Connection.class, super.getConnection(username, password), null);
+        }
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, String sql) {
+        return (T) Proxy.newProxyInstance(QueryRecorder.class.getClassLoader(), new Class<?>[]{type},
+                new RecordingHandler(target, sql));
+    }
+
+    private static final class RecordingHandler implements InvocationHandler {
+
+        private final Object target;
+        // PreparedStatement 의 SQL
+        private final String sql;
+
+        private RecordingHandler(Object target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if(name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if(name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+
+            if(target instanceof Connection && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String preparedSql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                return proxy(method.getReturnType(), result, preparedSql);
+            }
+            if(target instanceof Statement) {
+                record(name, args);
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, Object target, String sql) {
+            return QueryRecorder.proxy(type, (T) target, sql);
+        }
+
+        private void record(String name, Object[] args) {
+            Recording recording = CURRENT.get();
+            if(recording == null) {
+                return;
+            }
+            String statementSql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : sql;
+            if(name.startsWith("execute") && statementSql != null && SEQUENCE_FETCH.matcher(statementSql).find()) {
+                recording.sequenceFetches.add(statementSql);
+            }
+            else if(name.equals("addBatch")) {
+                recording.statements.add(statementSql);
+            }
+            else if(name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                recording.roundTrips++;
+            }
+            else if(name.startsWith("execute")) {
+                recording.statements.add(statementSql);
+                recording.roundTrips++;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package me.donghun.eventrestapiserver.common;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.ConfigurableMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcConfigurerAdapter;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.util.TreeSet;
+
+// MockMvc 요청마다 SQL 문, JDBC 왕복, 할당 바이트를 재서 핸들러별 예산(RequestBudgets)을 넘으면 테스트를 실패시킨다.
+// 잰 값은 RequestBudgetConfiguration.lastMeasurement() 로도 볼 수 있다
+@TestConfiguration
+public class RequestBudgetConfiguration {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final ThreadLocal<Long> ALLOCATED_BEFORE = new ThreadLocal<>();
+    private static final ThreadLocal<RequestMeasurement> LAST_MEASUREMENT = new ThreadLocal<>();
+
+    public static RequestMeasurement lastMeasurement() {
+        return LAST_MEASUREMENT.get();
+    }
+
+    @Bean
+    public static BeanPostProcessor queryRecordingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource ? QueryRecorder.wrap((DataSource) bean) : bean;
+            }
+        };
+    }
+
+    @Bean
+    public MockMvcBuilderCustomizer requestBudgetCustomizer() {
+        RequestBudgets budgets = RequestBudgets.load("request-budgets.properties");
+        return builder -> builder.apply(new MockMvcConfigurerAdapter() {
+            @Override
+            public RequestPostProcessor beforeMockMvcCreated(ConfigurableMockMvcBuilder<?> mockMvcBuilder,
+                                                             WebApplicationContext context) {
+                // 요청을 만든 뒤 보내기 직전에 불린다
+                return request -> {
+                    QueryRecorder.start();
+                    ALLOCATED_BEFORE.set(allocatedBytes());
+                    return request;
+                };
+            }
+
+            @Override
+            public void afterConfigurerAdded(ConfigurableMockMvcBuilder<?> mockMvcBuilder) {
+                mockMvcBuilder.alwaysDo(result -> {
+                    Long allocatedBefore = ALLOCATED_BEFORE.get();
+                    long allocated = allocatedBefore == null ? 0 : allocatedBytes() - allocatedBefore;
+                    ALLOCATED_BEFORE.remove();
+                    QueryRecorder.Recording recording = QueryRecorder.stop();
+                    if(allocatedBefore == null || !(result.getHandler() instanceof HandlerMethod)) {
+                        return;
+                    }
+                    HandlerMethod handler = (HandlerMethod) result.getHandler();
+                    RequestMeasurement measurement = new RequestMeasurement(
+                            handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName(),
+                            result.getResponse().getStatus() + " " + String.join(",", new TreeSet<>(result.getRequest().getParameterMap().keySet())),
+                            result.getRequest().getMethod() + " " + result.getRequest().getRequestURI(),
+                            recording.getStatements(), recording.getSequenceFetches(), recording.getRoundTrips(), allocated);
+                    LAST_MEASUREMENT.set(measurement);
+                    budgets.check(measurement);
+                });
+            }
+        });
+    }
+
+    private static long allocatedBytes() {
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+}
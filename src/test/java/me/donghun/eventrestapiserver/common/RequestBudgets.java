@@ -0,0 +1,67 @@
+package me.donghun.eventrestapiserver.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 핸들러별 요청 한 번의 예산 (src/test/resources/request-budgets.properties).
+//   EventController.getEvents.statements=1       SQL 문 수
+//   EventController.getEvents.round-trips=1      JDBC 왕복 수
+//   EventController.getEvents.allocated-bytes=…  요청 처리 스레드가 할당한 바이트
+// 적지 않은 항목은 검사하지 않는다. 할당량은 클래스 로딩, 캐시 생성 등이 끝나도록 같은 핸들러를 같은 요청 모양(RequestMeasurement.shape)으로
+// WARMUP_CALLS 번 부른 뒤부터 검사한다. 핸들러만으로 세면 처음 가는 코드 경로(404, ?fields= 등)가 테스트 순서에 따라 데워지지 않은 채 검사된다
+public final class RequestBudgets {
+
+    static final int WARMUP_CALLS = 2;
+
+    private final Properties budgets;
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+    private RequestBudgets(Properties budgets) {
+        this.budgets = budgets;
+    }
+
+    public static RequestBudgets load(String resource) {
+        Properties budgets = new Properties();
+        try (InputStream in = RequestBudgets.class.getClassLoader().getResourceAsStream(resource)) {
+            if(in != null) {
+                budgets.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new RequestBudgets(budgets);
+    }
+
+    static RequestBudgets of(Properties budgets) {
+        return new RequestBudgets(budgets);
+    }
+
+    // 예산을 넘으면 AssertionError
+    public void check(RequestMeasurement measurement) {
+        String handler = measurement.getHandler();
+        int call = calls.computeIfAbsent(handler + " " + measurement.getShape(), key -> new AtomicInteger()).incrementAndGet();
+
+        StringBuilder exceeded = new StringBuilder();
+        exceed(exceeded, handler, "statements", measurement.getStatements().size());
+        exceed(exceeded, handler, "round-trips", measurement.getRoundTrips());
+        if(call > WARMUP_CALLS) {
+            exceed(exceeded, handler, "allocated-bytes", measurement.getAllocatedBytes());
+        }
+        if(exceeded.length() > 0) {
+            throw new AssertionError(handler + " exceeded its request budget:" + exceeded + "\n" + measurement);
+        }
+    }
+
+    private void exceed(StringBuilder exceeded, String handler, String name, long actual) {
+        String budget = budgets.getProperty(handler + "." + name);
+        if(budget != null && actual > Long.parseLong(budget.trim())) {
+            exceeded.append(' ').append(name).append(' ').append(actual).append(" > ").append(budget.trim());
+        }
+    }
+
+}
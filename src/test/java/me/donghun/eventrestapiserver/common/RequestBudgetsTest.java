@@ -0,0 +1,70 @@
+package me.donghun.eventrestapiserver.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestBudgetsTest {
+
+    @Test
+    void exceedingStatementsFails() {
+        RequestBudgets budgets = RequestBudgets.of(budgets("EventController.getEvents.statements", "1"));
+
+        assertThatCode(() -> budgets.check(measurement(List.of("select 1"), 1, 0))).doesNotThrowAnyException();
+        assertThatThrownBy(() -> budgets.check(measurement(List.of("select 1", "select 2"), 2, 0)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("statements 2 > 1")
+                .hasMessageContaining("select 2");
+    }
+
+    @Test
+    void allocatedBytesCheckedAfterWarmup() {
+        RequestBudgets budgets = RequestBudgets.of(budgets("EventController.getEvents.allocated-bytes", "100"));
+
+        for(int i = 0; i < RequestBudgets.WARMUP_CALLS; i++) {
+            assertThatCode(() -> budgets.check(measurement(List.of(), 0, 1000))).doesNotThrowAnyException();
+        }
+        assertThatThrownBy(() -> budgets.check(measurement(List.of(), 0, 1000)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("allocated-bytes 1000 > 100");
+    }
+
+    @Test
+    void warmupCountedPerRequestShape() {
+        RequestBudgets budgets = RequestBudgets.of(budgets("EventController.getEvents.allocated-bytes", "100"));
+
+        for(int i = 0; i < RequestBudgets.WARMUP_CALLS; i++) {
+            budgets.check(measurement("200 ", List.of(), 0, 10));
+        }
+        // 처음 가는 경로(404)는 다른 모양의 요청이 데웠어도 검사하지 않는다
+        assertThatCode(() -> budgets.check(measurement("404 ", List.of(), 0, 1000))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void undeclaredBudgetIsNotChecked() {
+        RequestBudgets budgets = RequestBudgets.of(budgets("EventController.getEvents.statements", "0"));
+
+        assertThatCode(() -> budgets.check(new RequestMeasurement("EventController.getEventsList", "200 ", "GET /api/events",
+                List.of("select 1"), List.of(), 1, 1000))).doesNotThrowAnyException();
+    }
+
+    private Properties budgets(String key, String value) {
+        Properties properties = new Properties();
+        properties.setProperty(key, value);
+        return properties;
+    }
+
+    private RequestMeasurement measurement(List<String> statements, int roundTrips, long allocatedBytes) {
+        return measurement("200 ", statements, roundTrips, allocatedBytes);
+    }
+
+    private RequestMeasurement measurement(String shape, List<String> statements, int roundTrips, long allocatedBytes) {
+        return new RequestMeasurement("EventController.getEvents", shape, "GET /api/events/1", statements, List.of(),
+                roundTrips, allocatedBytes);
+    }
+
+}
@@ -0,0 +1,65 @@
+package me.donghun.eventrestapiserver.common;
+
+import java.util.List;
+
+// MockMvc 요청 한 번을 처리하는 동안 실행한 SQL 문, JDBC 왕복 수, 할당한 바이트.
+// shape 는 같은 핸들러 안에서 코드 경로를 가르는 요청 모양(응답 상태, 쿼리 파라미터 이름)이다. 예: "200 fields,page,size"
+public class RequestMeasurement {
+
+    private final String handler;
+    private final String shape;
+    private final String request;
+    private final List<String> statements;
+    private final List<String> sequenceFetches;
+    private final int roundTrips;
+    private final long allocatedBytes;
+
+    public RequestMeasurement(String handler, String shape, String request, List<String> statements,
+                              List<String> sequenceFetches, int roundTrips, long allocatedBytes) {
+        this.handler = handler;
+        this.shape = shape;
+        this.request = request;
+        this.statements = statements;
+        this.sequenceFetches = sequenceFetches;
+        this.roundTrips = roundTrips;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public String getShape() {
+        return shape;
+    }
+
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    // 예산에 들어가지 않는 시퀀스 id 할당 문장
+    public List<String> getSequenceFetches() {
+        return sequenceFetches;
+    }
+
+    public int getRoundTrips() {
+        return roundTrips;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(request)
+                .append(" (").append(handler).append(' ').append(shape).append("): ")
+                .append(statements.size()).append(" statements, ")
+                .append(roundTrips).append(" round trips, ")
+                .append(allocatedBytes).append(" bytes allocated");
+        statements.forEach(sql -> builder.append("\n  ").append(sql));
+        sequenceFetches.forEach(sql -> builder.append("\n  (sequence) ").append(sql));
+        return builder.toString();
+    }
+
+}
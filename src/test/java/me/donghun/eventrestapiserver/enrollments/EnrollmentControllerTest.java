@@ -0,0 +1,127 @@
+package me.donghun.eventrestapiserver.enrollments;
+
+import me.donghun.eventrestapiserver.common.RestDocsConfiguration;
+import me.donghun.eventrestapiserver.events.Event;
+import me.donghun.eventrestapiserver.events.EventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureRestDocs
+@Import(RestDocsConfiguration.class)
+class EnrollmentControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Test
+    @DisplayName("참가 신청 - limitOfEnrollment 까지만 받는다")
+    void createEnrollment() throws Exception {
+        Event event = generateEvent(2);
+
+        mockMvc.perform(post("/api/events/{eventId}/enrollments", event.getId()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("eventId").value(event.getId()))
+                .andExpect(jsonPath("enrolledAt").exists())
+                .andExpect(jsonPath("_links.event").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("create-enrollment"));
+        mockMvc.perform(post("/api/events/{eventId}/enrollments", event.getId()))
+                .andExpect(status().isAccepted());
+        mockMvc.perform(post("/api/events/{eventId}/enrollments", event.getId()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("errors[0].code").value("limitOfEnrollment"))
+                .andDo(print());
+
+        awaitEnrollments(event, 2);
+        assertThat(enrollmentRepository.countByEventId(event.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("참가 신청 - 동시에 몰려도 limitOfEnrollment 를 넘지 않는다")
+    void createEnrollmentConcurrently() throws Exception {
+        Event event = generateEvent(50);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Integer>> attempts = new ArrayList<>();
+        for(int i = 0; i < 200; i++) {
+            attempts.add(() -> mockMvc.perform(post("/api/events/{eventId}/enrollments", event.getId()))
+                    .andReturn().getResponse().getStatus());
+        }
+        int accepted = 0;
+        for(Future<Integer> result : executor.invokeAll(attempts)) {
+            if(result.get() == HttpStatus.ACCEPTED.value()) {
+                accepted++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(accepted).isEqualTo(50);
+        awaitEnrollments(event, 50);
+        assertThat(enrollmentRepository.countByEventId(event.getId())).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("참가 신청 - limitOfEnrollment 가 0 이면 제한 없음")
+    void createEnrollmentUnlimited() throws Exception {
+        Event event = generateEvent(0);
+
+        for(int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/events/{eventId}/enrollments", event.getId()))
+                    .andExpect(status().isAccepted());
+        }
+    }
+
+    @Test
+    @DisplayName("참가 신청 - 없는 이벤트")
+    void createEnrollmentNotFound() throws Exception {
+        mockMvc.perform(post("/api/events/98765432/enrollments"))
+                .andExpect(status().isNotFound());
+    }
+
+    private Event generateEvent(int limitOfEnrollment) {
+        Event event = Event.builder()
+                .name("enrollment event")
+                .description("test event")
+                .limitOfEnrollment(limitOfEnrollment)
+                .build();
+        return eventRepository.save(event);
+    }
+
+    private void awaitEnrollments(Event event, long expected) throws InterruptedException {
+        for(int i = 0; i < 100; i++) {
+            if(enrollmentRepository.countByEventId(event.getId()) >= expected) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package me.donghun.eventrestapiserver.enrollments;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EnrollmentCounterTest {
+
+    private final EnrollmentRepository enrollmentRepository = mock(EnrollmentRepository.class);
+    private final EnrollmentCounter enrollmentCounter = new EnrollmentCounter(enrollmentRepository);
+
+    @Test
+    void rebuild() {
+        when(enrollmentRepository.countGroupByEventId()).thenReturn(List.of(count(1, 2)));
+
+        enrollmentCounter.rebuild();
+
+        assertThat(enrollmentCounter.count(1)).isEqualTo(2);
+        assertThat(enrollmentCounter.tryAcquire(1, 3)).isTrue();
+        assertThat(enrollmentCounter.tryAcquire(1, 3)).isFalse();
+        assertThat(enrollmentCounter.count(2)).isZero();
+    }
+
+    @Test
+    void tryAcquireAndRelease() {
+        assertThat(enrollmentCounter.tryAcquire(1, 1)).isTrue();
+        assertThat(enrollmentCounter.tryAcquire(1, 1)).isFalse();
+
+        enrollmentCounter.release(1);
+
+        assertThat(enrollmentCounter.tryAcquire(1, 1)).isTrue();
+        assertThat(enrollmentCounter.count(1)).isEqualTo(1);
+    }
+
+    private EnrollmentCount count(Integer eventId, long total) {
+        return new EnrollmentCount() {
+            @Override
+            public Integer getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+
+}
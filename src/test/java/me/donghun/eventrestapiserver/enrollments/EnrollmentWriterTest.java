@@ -0,0 +1,77 @@
+package me.donghun.eventrestapiserver.enrollments;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class EnrollmentWriterTest {
+
+    private final EnrollmentRepository enrollmentRepository = mock(EnrollmentRepository.class);
+    private final EnrollmentCounter enrollmentCounter = new EnrollmentCounter(mock(EnrollmentRepository.class));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EnrollmentWriter enrollmentWriter = new EnrollmentWriter(enrollmentRepository, enrollmentCounter,
+            meterRegistry, 100, 10, Duration.ofMillis(10), 3, Duration.ofMillis(1));
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        enrollmentWriter.shutdown();
+    }
+
+    @Test
+    void retryUntilSaved() throws InterruptedException {
+        when(enrollmentRepository.saveAll(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(List.of());
+        enroll(1, 1);
+
+        enrollmentWriter.start();
+        awaitSaveAll(2);
+
+        assertThat(enrollmentCounter.count(1)).isEqualTo(1);
+        assertThat(meterRegistry.counter(EnrollmentWriter.FAILED_METRIC_NAME).count()).isZero();
+    }
+
+    @Test
+    void releaseSeatsWhenGivenUp() throws InterruptedException {
+        when(enrollmentRepository.saveAll(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        enroll(1, 2);
+        enroll(1, 2);
+
+        enrollmentWriter.start();
+        awaitFailed(2);
+
+        verify(enrollmentRepository, times(3)).saveAll(anyList());
+        assertThat(enrollmentCounter.count(1)).isZero();
+        assertThat(enrollmentCounter.tryAcquire(1, 2)).isTrue();
+    }
+
+    private void enroll(Integer eventId, int limit) {
+        assertThat(enrollmentCounter.tryAcquire(eventId, limit)).isTrue();
+        assertThat(enrollmentWriter.enqueue(new Enrollment(eventId, LocalDateTime.now()))).isTrue();
+    }
+
+    private void awaitSaveAll(int times) throws InterruptedException {
+        for(int i = 0; i < 100 && mockingDetails(enrollmentRepository).getInvocations().size() < times; i++) {
+            Thread.sleep(20);
+        }
+        verify(enrollmentRepository, times(times)).saveAll(anyList());
+    }
+
+    private void awaitFailed(double expected) throws InterruptedException {
+        for(int i = 0; i < 100 && meterRegistry.counter(EnrollmentWriter.FAILED_METRIC_NAME).count() < expected; i++) {
+            Thread.sleep(20);
+        }
+        assertThat(meterRegistry.counter(EnrollmentWriter.FAILED_METRIC_NAME).count()).isEqualTo(expected);
+    }
+
+}
@@ -0,0 +1,312 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+// servlet(EventController)과 reactive(ReactiveEventController) 스택이 같은 /api/events 계약을 지키는지 보는 시나리오.
+// EventControllerTest 의 생성, 목록, 조회, 수정 시나리오를 WebTestClient 로 옮긴 것이고, 데이터도 API 로 만든다
+public abstract class EventApiScenarios {
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    protected abstract WebTestClient webTestClient();
+
+    @Test
+    @DisplayName("이벤트 생성")
+    void createEvents() {
+        webTestClient().post().uri("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .bodyValue(eventDto("Spring"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().exists(HttpHeaders.LOCATION)
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectHeader().contentType(MediaTypes.HAL_JSON)
+                .expectBody()
+                .jsonPath("id").exists()
+                .jsonPath("free").isEqualTo(false)
+                .jsonPath("offline").isEqualTo(true)
+                .jsonPath("eventStatus").isEqualTo(EventStatus.DRAFT.name())
+                .jsonPath("_links.self.href").exists()
+                .jsonPath("_links.query.href").exists()
+                .jsonPath("_links.update.href").exists()
+                .jsonPath("_links.profile.href").isEqualTo("/docs/index.html#resources-events-create");
+    }
+
+    @Test
+    @DisplayName("이벤트 생성 - 빈 입력")
+    void createEventsEmptyInputs() {
+        webTestClient().post().uri("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(EventDto.builder().build())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("errors[0].objectName").exists()
+                .jsonPath("errors[0].defaultMessage").exists()
+                .jsonPath("_links.index").exists();
+    }
+
+    @Test
+    @DisplayName("이벤트 생성 - 잘못된 입력(비즈니스 로직에 맞지 않는 경우)")
+    void createEventsWrongInputs() {
+        EventDto eventDto = eventDto("Spring");
+        eventDto.setBeginEnrollmentDateTime(LocalDateTime.of(2021, 9, 12, 20, 30));
+        eventDto.setCloseEnrollmentDateTime(LocalDateTime.of(2021, 9, 11, 20, 30));
+        eventDto.setBeginEventDateTime(LocalDateTime.of(2021, 9, 10, 20, 30));
+        eventDto.setEndEventDateTime(LocalDateTime.of(2021, 9, 9, 20, 30));
+        eventDto.setBasePrice(10000);
+
+        webTestClient().post().uri("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(eventDto)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("errors[*].field").value(containsInAnyOrder("basePrice", "maxPrice", "endEventDateTime"))
+                .jsonPath("_links.index").exists();
+    }
+
+    @Test
+    @DisplayName("이벤트 생성 - 잘못된 입력(값 자체가 잘못된 경우)")
+    void createEventsWrongInputs2() {
+        EventDto eventDto = eventDto("");
+        eventDto.setBasePrice(-1);
+
+        webTestClient().post().uri("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(eventDto)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("errors[*].field").value(containsInAnyOrder("name", "basePrice"))
+                .jsonPath("_links.index").exists();
+    }
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - 페이지당 10개 / 두 번째 페이지 조회")
+    void getEventsList() {
+        IntStream.range(0, 30).forEach(i -> createEvent("event" + i));
+
+        webTestClient().get().uri("/api/events?page=1&size=10&sort=name,DESC")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(HttpHeaders.ETAG, eTag -> assertThat(eTag).startsWith("W/"))
+                .expectBody()
+                .jsonPath("page.size").isEqualTo(10)
+                .jsonPath("page.number").isEqualTo(1)
+                .jsonPath("_embedded.eventModelList.length()").isEqualTo(10)
+                .jsonPath("_embedded.eventModelList[0]._links.self").exists()
+                .jsonPath("_links.first").exists()
+                .jsonPath("_links.prev").exists()
+                .jsonPath("_links.self.href").value(href -> assertThat((String) href).contains("page=1", "size=10", "sort=name,desc"))
+                .jsonPath("_links.next").exists()
+                .jsonPath("_links.last").exists()
+                .jsonPath("_links.profile.href").isEqualTo("/docs/index.html#resources-events-list");
+    }
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - If-None-Match가 일치하면 304")
+    void getEventsListNotModified() {
+        IntStream.range(0, 3).forEach(i -> createEvent("event" + i));
+
+        String eTag = webTestClient().get().uri("/api/events?size=2")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class).getResponseHeaders().getETag();
+
+        webTestClient().get().uri("/api/events?size=2")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        createEvent("event3");
+
+        webTestClient().get().uri("/api/events?size=2")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("이벤트 조회")
+    void getEvents() {
+        JsonNode event = createEvent("Spring");
+
+        webTestClient().get().uri("/api/events/{id}", event.get("id").asInt())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody()
+                .jsonPath("id").isEqualTo(event.get("id").asInt())
+                .jsonPath("name").isEqualTo("Spring")
+                .jsonPath("_links.self.href").isEqualTo(event.at("/_links/self/href").asText())
+                .jsonPath("_links.profile.href").isEqualTo("/docs/index.html#resources-events-get");
+    }
+
+    @Test
+    @DisplayName("이벤트 조회 - If-None-Match가 일치하면 304")
+    void getEventsNotModified() {
+        int id = createEvent("Spring").get("id").asInt();
+
+        String eTag = webTestClient().get().uri("/api/events/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class).getResponseHeaders().getETag();
+
+        webTestClient().get().uri("/api/events/{id}", id)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        webTestClient().put().uri("/api/events/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(eventDto("new name"))
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient().get().uri("/api/events/{id}", id)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("name").isEqualTo("new name");
+    }
+
+    @Test
+    @DisplayName("이벤트 조회 - 없는 이벤트")
+    void getEventsNotFound() {
+        webTestClient().get().uri("/api/events/987654321")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("이벤트 수정")
+    void updateEvents() {
+        int id = createEvent("Spring").get("id").asInt();
+        EventDto eventDto = eventDto("new name");
+        eventDto.setDescription("new description");
+
+        webTestClient().put().uri("/api/events/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(eventDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("id").isEqualTo(id)
+                .jsonPath("name").isEqualTo("new name")
+                .jsonPath("description").isEqualTo("new description")
+                .jsonPath("_links.self").exists()
+                .jsonPath("_links.profile.href").isEqualTo("/docs/index.html#resources-events-update");
+
+        webTestClient().get().uri("/api/events/{id}", id)
+                .exchange()
+                .expectBody()
+                .jsonPath("name").isEqualTo("new name");
+    }
+
+    @Test
+    @DisplayName("이벤트 수정 - If-Match가 현재 ETag와 다르면 412")
+    void updateEventsIfMatchPreconditionFailed() {
+        int id = createEvent("Spring").get("id").asInt();
+        String eTag = webTestClient().get().uri("/api/events/{id}", id)
+                .exchange()
+                .returnResult(String.class).getResponseHeaders().getETag();
+
+        webTestClient().put().uri("/api/events/{id}", id)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(eventDto("first writer"))
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient().put().uri("/api/events/{id}", id)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(eventDto("second writer"))
+                .exchange()
+                .expectStatus().isEqualTo(412)
+                .expectHeader().exists(HttpHeaders.ETAG);
+
+        webTestClient().get().uri("/api/events/{id}", id)
+                .exchange()
+                .expectBody()
+                .jsonPath("name").isEqualTo("first writer");
+    }
+
+    @Test
+    @DisplayName("이벤트 수정 - 없는 이벤트")
+    void updateEventsNotFound() {
+        webTestClient().put().uri("/api/events/98765432")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(EventDto.builder().name("new name").description("new description").build())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("이벤트 수정 - 잘못된 입력")
+    void updateEventsWrongInputs() {
+        int id = createEvent("Spring").get("id").asInt();
+        EventDto eventDto = eventDto("new name");
+        eventDto.setDescription("");
+        eventDto.setBasePrice(-1);
+
+        webTestClient().put().uri("/api/events/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(eventDto)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("errors[*].field").value(containsInAnyOrder("basePrice", "description"))
+                .jsonPath("_links.index").exists();
+    }
+
+    private JsonNode createEvent(String name) {
+        byte[] body = webTestClient().post().uri("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(eventDto(name))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().returnResult().getResponseBody();
+        try {
+            return objectMapper.readTree(body);
+        } catch(IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static EventDto eventDto(String name) {
+        return EventDto.builder()
+                .name(name)
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2021, 9, 9, 20, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2021, 9, 10, 20, 30))
+                .beginEventDateTime(LocalDateTime.of(2021, 9, 11, 20, 30))
+                .endEventDateTime(LocalDateTime.of(2021, 9, 12, 20, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .build();
+    }
+
+}
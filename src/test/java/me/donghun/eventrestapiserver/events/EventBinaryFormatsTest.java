@@ -0,0 +1,92 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import me.donghun.eventrestapiserver.common.BinaryHalConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class EventBinaryFormatsTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - CBOR, Smile 도 HAL JSON 과 같은 구조로 응답")
+    void getEventsListBinary() throws Exception {
+        JsonNode json = read(objectMapper, mockMvc.perform(get("/api/events").param("size", "5")
+                .accept(MediaTypes.HAL_JSON)), MediaTypes.HAL_JSON_VALUE);
+        JsonNode cbor = read(new CBORMapper(), mockMvc.perform(get("/api/events").param("size", "5")
+                .accept(BinaryHalConfiguration.CBOR_VALUE)), BinaryHalConfiguration.CBOR_VALUE);
+        JsonNode smile = read(new SmileMapper(), mockMvc.perform(get("/api/events").param("size", "5")
+                .accept(BinaryHalConfiguration.SMILE_VALUE)), BinaryHalConfiguration.SMILE_VALUE);
+
+        assertThat(json.at("/_embedded/eventModelList")).hasSize(5);
+        assertThat(json.at("/_embedded/eventModelList/0/_links/self/href").isTextual()).isTrue();
+        assertThat(cbor).isEqualTo(json);
+        assertThat(smile).isEqualTo(json);
+    }
+
+    @Test
+    @DisplayName("이벤트 생성 - 검증 오류도 CBOR 로 같은 구조로 응답")
+    void createEventsWrongInputsCbor() throws Exception {
+        String content = objectMapper.writeValueAsString(EventDto.builder()
+                .name("Spring")
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2021, 9, 9, 20, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2021, 9, 10, 20, 30))
+                .beginEventDateTime(LocalDateTime.of(2021, 9, 11, 20, 30))
+                .endEventDateTime(LocalDateTime.of(2021, 9, 12, 20, 30))
+                .basePrice(300)
+                .maxPrice(200)
+                .build());
+
+        JsonNode json = objectMapper.readTree(mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaTypes.HAL_JSON)
+                        .content(content))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsByteArray());
+        JsonNode cbor = new CBORMapper().readTree(mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(BinaryHalConfiguration.CBOR_VALUE)
+                        .content(content))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(BinaryHalConfiguration.CBOR_VALUE))
+                .andReturn().getResponse().getContentAsByteArray());
+
+        assertThat(json.at("/errors/0/code").asText()).isEqualTo("wrongValue");
+        assertThat(cbor).isEqualTo(json);
+    }
+
+    private JsonNode read(ObjectMapper mapper, ResultActions resultActions, String contentType) throws Exception {
+        byte[] body = resultActions
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(contentType))
+                .andReturn().getResponse().getContentAsByteArray();
+        return mapper.readTree(body);
+    }
+
+}
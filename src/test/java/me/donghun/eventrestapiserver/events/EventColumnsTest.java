@@ -0,0 +1,132 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "events.columns.enabled=true")
+@AutoConfigureMockMvc
+class EventColumnsTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventColumns eventColumns;
+
+    @Autowired
+    EventStatusScheduler eventStatusScheduler;
+
+    @Test
+    @DisplayName("속성 조건 조회 - 메모리 읽기 모델과 DB 조회 결과가 같다")
+    void filter() {
+        LocalDateTime base = LocalDateTime.of(2021, 9, 1, 0, 0);
+        List<Event> events = new ArrayList<>();
+        for(int i = 0; i < 1500; i++) {
+            Event event = Event.builder()
+                    .name("column event " + i)
+                    .basePrice(i % 4 == 0 ? 0 : i % 50 * 100)
+                    .maxPrice(i % 4 == 0 ? 0 : i % 70 * 100)
+                    .limitOfEnrollment(i % 120)
+                    .location(i % 3 == 0 ? "강남역" : null)
+                    .eventStatus(EventStatus.values()[i % EventStatus.values().length])
+                    .beginEnrollmentDateTime(i % 11 == 0 ? null : base.plusHours(i))
+                    .closeEnrollmentDateTime(base.plusHours(i + 24))
+                    .beginEventDateTime(base.plusHours(i + 48))
+                    .endEventDateTime(base.plusHours(i + 50))
+                    .build();
+            event.update();
+            events.add(event);
+        }
+        eventRepository.saveAll(events);
+        eventColumns.rebuild();
+
+        assertSameAsDatabase(new EventFilter());
+        EventFilter freeOffline = new EventFilter();
+        freeOffline.setFree(true);
+        freeOffline.setOffline(true);
+        assertSameAsDatabase(freeOffline);
+        EventFilter priceRange = new EventFilter();
+        priceRange.setBasePriceFrom(1000);
+        priceRange.setBasePriceTo(2500);
+        priceRange.setMaxPriceTo(3000);
+        priceRange.setFree(false);
+        assertSameAsDatabase(priceRange);
+        EventFilter statusAndLimit = new EventFilter();
+        statusAndLimit.setEventStatus(EventStatus.PUBLISHED);
+        statusAndLimit.setLimitOfEnrollmentFrom(100);
+        assertSameAsDatabase(statusAndLimit);
+        EventFilter dateRange = new EventFilter();
+        dateRange.setBeginEnrollmentFrom(base.plusHours(100));
+        dateRange.setBeginEnrollmentTo(base.plusHours(700));
+        dateRange.setEndEventTo(base.plusHours(600));
+        assertSameAsDatabase(dateRange);
+        EventFilter onlyTo = new EventFilter();
+        onlyTo.setBeginEnrollmentTo(base.plusHours(50));
+        assertSameAsDatabase(onlyTo);
+    }
+
+    @Test
+    @DisplayName("속성 조건 조회 - 수정과 상태 전이가 메모리 읽기 모델에 반영된다")
+    void filterAfterChanges() throws Exception {
+        eventColumns.rebuild();
+        LocalDateTime now = LocalDateTime.now();
+        Event event = eventRepository.save(Event.builder()
+                .name("column event")
+                .limitOfEnrollment(9700)
+                .eventStatus(EventStatus.DRAFT)
+                .beginEnrollmentDateTime(now.minusHours(1))
+                .closeEnrollmentDateTime(now.plusHours(1))
+                .beginEventDateTime(now.plusHours(2))
+                .endEventDateTime(now.plusHours(3))
+                .build());
+
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"limitOfEnrollment\":9800,\"eventStatus\":\"PUBLISHED\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/events/filter")
+                        .param("limitOfEnrollmentFrom", "9800")
+                        .param("eventStatus", "PUBLISHED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventModelList[*].id").value(contains(event.getId())));
+
+        // 스케줄러의 update 는 엔티티를 거치지 않지만 EventsChangedEvent 로 반영된다
+        eventStatusScheduler.fireDue(LocalDateTime.now());
+
+        mockMvc.perform(get("/api/events/filter")
+                        .param("limitOfEnrollmentFrom", "9800")
+                        .param("eventStatus", "PUBLISHED"))
+                .andExpect(jsonPath("page.totalElements").value(0));
+        mockMvc.perform(get("/api/events/filter")
+                        .param("limitOfEnrollmentFrom", "9800")
+                        .param("eventStatus", "BEGAN_ENROLLMENT"))
+                .andExpect(jsonPath("_embedded.eventModelList[*].id").value(contains(event.getId())));
+    }
+
+    private void assertSameAsDatabase(EventFilter filter) {
+        int[] expected = eventRepository.findAll(filter.toSpecification(), Sort.by("id")).stream()
+                .mapToInt(Event::getId)
+                .toArray();
+        assertThat(eventColumns.filter(filter)).hasValueSatisfying(eventIds -> assertThat(eventIds).containsExactly(expected));
+    }
+
+}
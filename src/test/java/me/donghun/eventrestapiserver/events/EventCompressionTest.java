@@ -0,0 +1,52 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 압축은 내장 Tomcat 이 하므로 MockMvc 대신 실제 포트로 요청한다
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EventCompressionTest {
+
+    @LocalServerPort
+    int port;
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - 큰 응답은 gzip 으로 압축")
+    void getEventsListGzip() throws Exception {
+        HttpURLConnection connection = open("/api/events?size=20");
+
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        assertThat(connection.getHeaderField(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (InputStream in = new GZIPInputStream(connection.getInputStream())) {
+            assertThat(new String(in.readAllBytes())).contains("\"eventModelList\"");
+        }
+    }
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - min-response-size 보다 작은 응답은 압축하지 않는다")
+    void getEventsListNotCompressed() throws Exception {
+        HttpURLConnection connection = open("/api/events?size=1");
+
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        assertThat(connection.getHeaderField(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    private HttpURLConnection open(String path) throws Exception {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + path).openConnection();
+        connection.setRequestProperty(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE);
+        connection.setRequestProperty(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        return connection;
+    }
+
+}
@@ -1,6 +1,9 @@
 package me.donghun.eventrestapiserver.events;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import me.donghun.eventrestapiserver.common.RequestBudgetConfiguration;
+import me.donghun.eventrestapiserver.common.RequestMeasurement;
 import me.donghun.eventrestapiserver.common.RestDocsConfiguration;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
@@ -14,11 +17,15 @@ import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
@@ -32,7 +39,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @AutoConfigureMockMvc
 @AutoConfigureRestDocs
-@Import(RestDocsConfiguration.class)
+@Import({RestDocsConfiguration.class, RequestBudgetConfiguration.class})
 class EventControllerTest {
 
     @Autowired
@@ -44,6 +51,9 @@ class EventControllerTest {
     @Autowired
     EventRepository eventRepository;
 
+    @Autowired
+    EventCounter eventCounter;
+
     @Test
     @DisplayName("이벤트 생성")
     void createEvents() throws Exception {
@@ -123,6 +133,60 @@ class EventControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("이벤트 일괄 생성 - 항목별 성공/실패")
+    void createEventsBatch() throws Exception {
+        EventDto validEventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2021, 9, 9, 20, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2021, 9, 10, 20, 30))
+                .beginEventDateTime(LocalDateTime.of(2021, 9, 11, 20, 30))
+                .endEventDateTime(LocalDateTime.of(2021, 9, 12, 20, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .build();
+        EventDto emptyEventDto = EventDto.builder().build();
+        EventDto wrongEventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2021, 9, 9, 20, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2021, 9, 10, 20, 30))
+                .beginEventDateTime(LocalDateTime.of(2021, 9, 11, 20, 30))
+                .endEventDateTime(LocalDateTime.of(2021, 9, 12, 20, 30))
+                .basePrice(10000)
+                .maxPrice(200)
+                .build();
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaTypes.HAL_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(validEventDto, emptyEventDto, wrongEventDto, validEventDto, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventBatchItemModelList", hasSize(5)))
+                .andExpect(jsonPath("_embedded.eventBatchItemModelList[0].index").value(0))
+                .andExpect(jsonPath("_embedded.eventBatchItemModelList[0].status").value(201))
+                .andExpect(jsonPath("_embedded.eventBatchItemModelList[0].id").exists())
+                .andExpect(jsonPath("_embedded.eventBatchItemModelList[0]._links.self").exists())
+                .andExpect(jsonPath("_embedded.eventBatchItemModelList[1].status").value(400))
+                .andExpect(jsonPath("_embedded.eventBatchItemModelList[1].errors[0].objectName").exists())
+                .andExpect(jsonPath("_embedded.eventBatchItemModelList[2].status").value(400))
+                .andExpect(jsonPath("_embedded.eventBatchItemModelList[2].errors[*].field").value(containsInAnyOrder("basePrice", "maxPrice")))
+                .andExpect(jsonPath("_embedded.eventBatchItemModelList[3].status").value(201))
+                .andExpect(jsonPath("_embedded.eventBatchItemModelList[4].index").value(4))
+                .andExpect(jsonPath("_embedded.eventBatchItemModelList[4].status").value(400))
+                .andExpect(jsonPath("_embedded.eventBatchItemModelList[4].errors[0].code").value("NotNull"))
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("create-events-batch",
+                        links(
+                                linkWithRel("profile").description("link to profile")
+                        )
+                ))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("이벤트 생성 - 빈 입력")
     void createEventsEmptyInputs() throws Exception {
@@ -219,6 +283,272 @@ class EventControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("이벤트 목록 조회 - fields 로 고른 필드만 조회")
+    void getEventsListFields() throws Exception {
+        // 시작할 때 넣은 이벤트(event0 ~ event29)는 날짜가 없으므로, 방금 넣은 이벤트만 나오도록 id 역순으로 본다
+        IntStream.range(0, 30).forEach(this::generateEvents);
+
+        mockMvc.perform(get("/api/events")
+                        .param("page", "1")
+                        .param("size", "10")
+                        .param("sort", "id,DESC")
+                        .param("fields", "name,beginEventDateTime,eventStatus"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventModelList", hasSize(10)))
+                .andExpect(jsonPath("_embedded.eventModelList[0].id").exists())
+                .andExpect(jsonPath("_embedded.eventModelList[0].name").exists())
+                .andExpect(jsonPath("_embedded.eventModelList[0].beginEventDateTime").exists())
+                .andExpect(jsonPath("_embedded.eventModelList[0].eventStatus").exists())
+                .andExpect(jsonPath("_embedded.eventModelList[0].description").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventModelList[0].basePrice").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventModelList[0]._links.self.href",
+                        matchesPattern("http://localhost:8080/api/events/\\d+")))
+                .andExpect(jsonPath("_links.self.href", containsString("page=1")))
+                .andExpect(jsonPath("_links.self.href", containsString("fields=id,name,beginEventDateTime,eventStatus")))
+                .andExpect(jsonPath("_links.next.href", containsString("fields=id,name,beginEventDateTime,eventStatus")))
+                .andExpect(jsonPath("_links.next.href", containsString("sort=id,desc")))
+                .andExpect(jsonPath("page.totalElements").isNumber())
+                .andDo(document("events-list-fields",
+                        links(
+                                linkWithRel("first").description("link to first page"),
+                                linkWithRel("prev").description("link to previous page"),
+                                linkWithRel("self").description("link to self page"),
+                                linkWithRel("next").description("link to next page"),
+                                linkWithRel("last").description("link to last page"),
+                                linkWithRel("profile").description("link to profile")
+                        )
+                ));
+
+        // 고른 컬럼만 select 한다
+        RequestMeasurement measurement = RequestBudgetConfiguration.lastMeasurement();
+        assertThat(measurement.getStatements())
+                .anySatisfy(sql -> assertThat(sql).contains("begin_event_date_time").doesNotContain("description"));
+    }
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - fields 에 없는 필드가 있으면 400")
+    void getEventsListFieldsWrongInputs() throws Exception {
+        mockMvc.perform(get("/api/events").param("fields", "name,version"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/events/1").param("fields", "password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - count 없이 Slice로 조회")
+    void getEventsSlice() throws Exception {
+        IntStream.range(0, 30).forEach(this::generateEvents);
+
+        mockMvc.perform(get("/api/events")
+                        .param("page", "1")
+                        .param("size", "10")
+                        .param("sort", "name,DESC")
+                        .param("count", "none"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Total-Count"))
+                .andExpect(jsonPath("page").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventModelList", hasSize(10)))
+                .andExpect(jsonPath("_links.first").doesNotExist())
+                .andExpect(jsonPath("_links.last").doesNotExist())
+                .andExpect(jsonPath("_links.prev.href", containsString("page=0")))
+                .andExpect(jsonPath("_links.next.href", containsString("page=2")))
+                .andExpect(jsonPath("_links.next.href", containsString("sort=name,desc")))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("events-slice-list",
+                        links(
+                                linkWithRel("prev").description("link to previous page"),
+                                linkWithRel("self").description("link to self page"),
+                                linkWithRel("next").description("link to next page"),
+                                linkWithRel("profile").description("link to profile")
+                        )
+                ))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - Slice와 캐시된 전체 개수")
+    void getEventsSliceApproximateCount() throws Exception {
+        IntStream.range(0, 10).forEach(this::generateEvents);
+
+        mockMvc.perform(get("/api/events")
+                        .param("size", "10")
+                        .param("count", "approximate"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Total-Count"))
+                .andExpect(jsonPath("_links.prev").doesNotExist())
+                .andExpect(jsonPath("_links.next").exists())
+                .andDo(print());
+
+        mockMvc.perform(get("/api/events")
+                        .param("count", "wrong"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - 기간이 겹치는 이벤트")
+    void getEventsOverlapping() throws Exception {
+        LocalDateTime base = LocalDateTime.of(2030, 3, 1, 10, 0);
+        Event running = generateEvents(1, base, base.plusHours(3));
+        Event later = generateEvents(2, base.plusHours(2), base.plusHours(4));
+        Event after = generateEvents(3, base.plusHours(5), base.plusHours(6));
+        generateEvents(4, base.minusHours(2), base);
+
+        mockMvc.perform(get("/api/events")
+                        .param("from", base.toString())
+                        .param("to", base.plusHours(5).toString())
+                        .param("on", "event"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventModelList[*].id").value(contains(running.getId(), later.getId())))
+                .andExpect(jsonPath("page.totalElements").value(2))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("events-overlap-list"))
+                .andDo(print());
+
+        // 모집 기간은 이벤트 시작 하루 전부터 한 시간 전까지
+        mockMvc.perform(get("/api/events")
+                        .param("from", base.minusMinutes(150).toString())
+                        .param("to", base.minusHours(2).toString())
+                        .param("on", "enrollment"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventModelList[*].id").value(contains(running.getId(), later.getId(), after.getId())));
+    }
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - 기간이 겹치는 이벤트, 잘못된 입력")
+    void getEventsOverlappingWrongInputs() throws Exception {
+        mockMvc.perform(get("/api/events")
+                        .param("from", "2030-03-01T10:00:00")
+                        .param("to", "2030-03-01T09:00:00"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/events")
+                        .param("from", "2030-03-01T10:00:00")
+                        .param("to", "2030-03-01T11:00:00")
+                        .param("on", "nothing"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/events")
+                        .param("from", "yesterday")
+                        .param("to", "2030-03-01T11:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Event generateEvents(int i, LocalDateTime beginEvent, LocalDateTime endEvent) {
+        Event event = Event.builder()
+                .name("overlap event" + i)
+                .description("test event")
+                .beginEnrollmentDateTime(beginEvent.minusDays(1))
+                .closeEnrollmentDateTime(beginEvent.minusHours(1))
+                .beginEventDateTime(beginEvent)
+                .endEventDateTime(endEvent)
+                .build();
+        return this.eventRepository.save(event);
+    }
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - 커서 기반(keyset) 페이지네이션")
+    void getEventsListAfter() throws Exception {
+        IntStream.range(0, 30).forEach(this::generateEvents);
+
+        String response = mockMvc.perform(get("/api/events")
+                        .param("after", "")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventModelList", hasSize(10)))
+                .andExpect(jsonPath("_embedded.eventModelList[0]._links.self").exists())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("events-keyset-list",
+                        links(
+                                linkWithRel("self").description("link to self page"),
+                                linkWithRel("next").description("link to next page (carries the cursor)"),
+                                linkWithRel("profile").description("link to profile")
+                        )
+                ))
+                .andReturn().getResponse().getContentAsString();
+
+        String lastName = JsonPath.read(response, "_embedded.eventModelList[9].name");
+        String next = JsonPath.read(response, "_links.next.href");
+
+        mockMvc.perform(get(next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventModelList", hasSize(10)))
+                .andExpect(jsonPath("_embedded.eventModelList[0].name", greaterThanOrEqualTo(lastName)))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - 잘못된 커서")
+    void getEventsListAfterWrongCursor() throws Exception {
+        mockMvc.perform(get("/api/events")
+                        .param("after", "not a cursor")
+                        .param("size", "10"))
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - 커서와 count 를 같이 주면 커서로 조회한다")
+    void getEventsListAfterWithCount() throws Exception {
+        mockMvc.perform(get("/api/events")
+                        .param("after", "")
+                        .param("count", "none")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page").doesNotExist())
+                .andExpect(jsonPath("_links.profile.href").value("/docs/index.html#resources-events-keyset-list"));
+
+        mockMvc.perform(get("/api/events")
+                        .param("after", "abc")
+                        .param("count", "none"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("이벤트 내보내기 - NDJSON")
+    void exportEventsNdjson() throws Exception {
+        Event event = generateEvents(987654321);
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/events/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = content.split("\n");
+        assertThat(lines.length).isEqualTo(eventRepository.count());
+        assertThat(lines).anySatisfy(line -> assertThat(line).startsWith("{\"id\":" + event.getId() + ","));
+    }
+
+    @Test
+    @DisplayName("이벤트 내보내기 - CSV")
+    void exportEventsCsv() throws Exception {
+        Event event = generateEvents(987654321);
+        event.setDescription("comma, \"quote\"");
+        eventRepository.save(event);
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/events/export")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = content.split("\n");
+        assertThat(lines[0]).startsWith("id,name,description,");
+        assertThat(lines.length).isEqualTo(eventRepository.count() + 1);
+        assertThat(lines).anySatisfy(line -> assertThat(line).startsWith(event.getId() + ",event987654321,\"comma, \"\"quote\"\"\","));
+    }
+
     private Event generateEvents(int i) {
         Event event = Event.builder()
                 .name("event" + i)
@@ -236,6 +566,60 @@ class EventControllerTest {
         return this.eventRepository.save(event);
     }
 
+    @Test
+    @DisplayName("요청 예산 - 캐시된 이벤트 조회는 SQL 없이 예산 안에서 할당한다")
+    void getEventsWithinBudget() throws Exception {
+        Event event = generateEvents(987654320);
+
+        // 예산 검사는 모든 요청에서 일어나고, 할당량은 몇 번 부른 뒤부터 검사한다
+        for(int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/events/{id}", event.getId()))
+                    .andExpect(status().isOk());
+        }
+
+        RequestMeasurement measurement = RequestBudgetConfiguration.lastMeasurement();
+        assertThat(measurement.getHandler()).isEqualTo("EventController.getEvents");
+        assertThat(measurement.getStatements()).isEmpty();
+        assertThat(measurement.getRoundTrips()).isZero();
+        assertThat(measurement.getAllocatedBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("요청 예산 - 이벤트 목록 조회의 SQL 을 기록한다")
+    void getEventsListWithinBudget() throws Exception {
+        // 할당량까지 검사되도록 같은 모양의 요청을 이 테스트 안에서 데운다
+        for(int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/events").param("size", "3"))
+                    .andExpect(status().isOk());
+        }
+
+        RequestMeasurement measurement = RequestBudgetConfiguration.lastMeasurement();
+        assertThat(measurement.getHandler()).isEqualTo("EventController.getEventsList");
+        assertThat(measurement.getStatements()).isNotEmpty().hasSizeLessThanOrEqualTo(2);
+        assertThat(measurement.getRoundTrips()).isEqualTo(measurement.getStatements().size());
+    }
+
+    @Test
+    @DisplayName("이벤트 조회 - fields 로 고른 필드만 조회")
+    void getEventsFields() throws Exception {
+        Event event = generateEvents(987654319);
+
+        String eTag = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .param("fields", "name,eventStatus")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("id").value(event.getId()))
+                .andExpect(jsonPath("name").value(event.getName()))
+                .andExpect(jsonPath("$", hasKey("eventStatus")))
+                .andExpect(jsonPath("description").doesNotExist())
+                .andExpect(jsonPath("_links.self.href").value("http://localhost:8080/api/events/" + event.getId()))
+                .andExpect(jsonPath("_links.profile").exists());
+    }
+
     @Test
     @DisplayName("이벤트 조회")
     void getEvents() throws Exception {
@@ -251,6 +635,125 @@ class EventControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("이벤트 조회 - If-None-Match가 일치하면 304")
+    void getEventsNotModified() throws Exception {
+        Event event = generateEvents(987654321);
+
+        String eTag = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andDo(print());
+
+        EventDto eventDto = objectMapper.convertValue(event, EventDto.class);
+        eventDto.setName("new name");
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value("new name"));
+    }
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - If-None-Match가 일치하면 304")
+    void getEventsListNotModified() throws Exception {
+        Event event = generateEvents(0);
+
+        String eTag = mockMvc.perform(get("/api/events").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/events").param("size", "2")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        // ETag 는 메모리의 전체 개수와 version 합계로 만들므로 304 는 SQL 없이 나간다
+        assertThat(RequestBudgetConfiguration.lastMeasurement().getStatements()).isEmpty();
+
+        EventDto eventDto = objectMapper.convertValue(event, EventDto.class);
+        eventDto.setName("new name");
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk());
+
+        String updatedETag = mockMvc.perform(get("/api/events").param("size", "2")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/events").param("size", "2")
+                        .header(HttpHeaders.IF_NONE_MATCH, updatedETag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("이벤트 목록 조회 - 바뀐 것이 없는 수정은 ETag 를 바꾸지 않고, 다시 시작해도 같은 ETag 가 나온다")
+    void getEventsListETagAfterNoOpUpdate() throws Exception {
+        // repository 로 직접 넣은 이벤트까지 DB에서 다시 맞춘다
+        eventCounter.initialize();
+        EventDto eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2021, 9, 9, 20, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2021, 9, 10, 20, 30))
+                .beginEventDateTime(LocalDateTime.of(2021, 9, 11, 20, 30))
+                .endEventDateTime(LocalDateTime.of(2021, 9, 12, 20, 30))
+                .build();
+        String response = mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        int eventId = JsonPath.read(response, "id");
+        long total = eventCounter.approximateTotal();
+        String eTag = mockMvc.perform(get("/api/events").param("size", "2"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        for(int i = 0; i < 3; i++) {
+            mockMvc.perform(patch("/api/events/{id}", eventId)
+                            .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                            .content("{}"))
+                    .andExpect(status().isOk());
+        }
+
+        assertThat(eventCounter.approximateTotal()).isEqualTo(total).isEqualTo(eventRepository.count());
+        mockMvc.perform(get("/api/events").param("size", "2")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // 재시작하거나 다른 노드에서 DB를 읽어도 같은 값이다
+        eventCounter.initialize();
+        mockMvc.perform(get("/api/events").param("size", "2")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch("/api/events/{id}", eventId)
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"name\":\"renamed\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/events").param("size", "2")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("이벤트 조회 - 없는 이벤트")
     void getEventsNotFound() throws Exception {
@@ -280,6 +783,90 @@ class EventControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("이벤트 수정 - If-Match가 현재 ETag와 일치하면 수정")
+    void updateEventsIfMatch() throws Exception {
+        Event event = generateEvents(987654321);
+        EventDto eventDto = objectMapper.convertValue(event, EventDto.class);
+        eventDto.setName("new name");
+
+        String eTag = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String newETag = mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("name").value("new name"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newETag).isNotEqualTo(eTag);
+
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.IF_MATCH, "*")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("이벤트 수정 - If-Match가 현재 ETag와 다르면 412")
+    void updateEventsIfMatchPreconditionFailed() throws Exception {
+        Event event = generateEvents(987654321);
+        EventDto eventDto = objectMapper.convertValue(event, EventDto.class);
+
+        String eTag = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        eventDto.setName("first writer");
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk());
+
+        eventDto.setName("second writer");
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andDo(print());
+
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.IF_MATCH, "W/" + eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(jsonPath("name").value("first writer"));
+    }
+
+    @Test
+    @DisplayName("이벤트 수정 후 조회 - 캐시된 이벤트가 갱신되어야 함")
+    void getEventsAfterUpdate() throws Exception {
+        Event event = generateEvents(987654321);
+
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(jsonPath("name").value(event.getName()));
+
+        EventDto eventDto = objectMapper.convertValue(event, EventDto.class);
+        eventDto.setName("updated name");
+
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value("updated name"))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("이벤트 수정 - 없는 이벤트")
     void updateEventsNotFound() throws Exception {
@@ -333,4 +920,89 @@ class EventControllerTest {
                 .andDo(print());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("이벤트 부분 수정 - 보낸 필드만 바뀐다")
+    void patchEvents() throws Exception {
+        Event event = generateEvents(987654321);
+
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"limitOfEnrollment\":50,\"eventStatus\":\"PUBLISHED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("limitOfEnrollment").value(50))
+                .andExpect(jsonPath("eventStatus").value("PUBLISHED"))
+                .andExpect(jsonPath("name").value(event.getName()))
+                .andExpect(jsonPath("maxPrice").value(event.getMaxPrice()))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("patch-events"))
+                .andDo(print());
+
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"location\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("location").doesNotExist())
+                .andExpect(jsonPath("limitOfEnrollment").value(50));
+    }
+
+    @Test
+    @DisplayName("이벤트 부분 수정 - 바뀐 필드와 관련된 검증만 한다")
+    void patchEventsWrongInputs() throws Exception {
+        Event event = generateEvents(987654321);
+
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"maxPrice\":50}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[*].field").value(containsInAnyOrder("basePrice", "maxPrice")));
+
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"name\":null,\"endEventDateTime\":\"2021-09-01T00:00:00\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[*].field").value(containsInAnyOrder("name")));
+
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"endEventDateTime\":\"2021-09-01T00:00:00\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[*].field").value(containsInAnyOrder("endEventDateTime")));
+
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"unknown\":1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].code").value("wrongValue"))
+                .andDo(print());
+
+        // eventStatus 는 지울 수 없다
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"eventStatus\":\"DRAFT\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"eventStatus\":null,\"name\":\"new name\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].field").value("eventStatus"))
+                .andExpect(jsonPath("errors[0].code").value("NotNull"));
+
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(jsonPath("name").value(event.getName()))
+                .andExpect(jsonPath("maxPrice").value(event.getMaxPrice()))
+                .andExpect(jsonPath("eventStatus").value("DRAFT"));
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getEventStatus()).isEqualTo(EventStatus.DRAFT);
+    }
+
+    @Test
+    @DisplayName("이벤트 부분 수정 - 없는 이벤트")
+    void patchEventsNotFound() throws Exception {
+        mockMvc.perform(patch("/api/events/98765432")
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"limitOfEnrollment\":50}"))
+                .andExpect(status().isNotFound());
+    }
+
+}
@@ -0,0 +1,105 @@
+package me.donghun.eventrestapiserver.events;
+
+import me.donghun.eventrestapiserver.common.RestDocsConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureRestDocs
+@Import(RestDocsConfiguration.class)
+class EventFilterControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Test
+    @DisplayName("속성 조건 조회 - 무료 오프라인 이벤트 중 참가 인원이 많은 것")
+    void filterEvents() throws Exception {
+        Event matched = generateEvent(0, 0, 8100, "강남역");
+        Event otherMatched = generateEvent(0, 0, 8300, "판교역");
+        generateEvent(0, 0, 8200, null);
+        generateEvent(1000, 5000, 8200, "강남역");
+        generateEvent(0, 0, 10, "강남역");
+
+        mockMvc.perform(get("/api/events/filter")
+                        .param("free", "true")
+                        .param("offline", "true")
+                        .param("limitOfEnrollmentFrom", "8000")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventModelList[*].id").value(contains(matched.getId(), otherMatched.getId())))
+                .andExpect(jsonPath("page.totalElements").value(2))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("events-filter"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("속성 조건 조회 - 가격 범위와 날짜 범위")
+    void filterEventsByRange() throws Exception {
+        Event cheap = generateEvent(100, 200, 8500, null);
+        Event expensive = generateEvent(300, 400, 8500, null);
+
+        mockMvc.perform(get("/api/events/filter")
+                        .param("basePriceFrom", "100")
+                        .param("basePriceTo", "299")
+                        .param("limitOfEnrollmentFrom", "8500")
+                        .param("limitOfEnrollmentTo", "8500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventModelList[*].id").value(contains(cheap.getId())));
+
+        mockMvc.perform(get("/api/events/filter")
+                        .param("beginEventFrom", "2021-09-11T20:30:00")
+                        .param("beginEventTo", "2021-09-11T20:30:01")
+                        .param("maxPriceFrom", "400")
+                        .param("limitOfEnrollmentFrom", "8500"))
+                .andExpect(jsonPath("_embedded.eventModelList[*].id").value(contains(expensive.getId())));
+    }
+
+    @Test
+    @DisplayName("속성 조건 조회 - 잘못된 값")
+    void filterEventsWrongInputs() throws Exception {
+        mockMvc.perform(get("/api/events/filter").param("basePriceFrom", "cheap"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/events/filter").param("eventStatus", "UNKNOWN"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Event generateEvent(int basePrice, int maxPrice, int limitOfEnrollment, String location) {
+        Event event = Event.builder()
+                .name("filtered event")
+                .description("test event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2021, 9, 9, 20, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2021, 9, 10, 20, 30))
+                .beginEventDateTime(LocalDateTime.of(2021, 9, 11, 20, 30))
+                .endEventDateTime(LocalDateTime.of(2021, 9, 12, 20, 30))
+                .basePrice(basePrice)
+                .maxPrice(maxPrice)
+                .limitOfEnrollment(limitOfEnrollment)
+                .location(location)
+                .eventStatus(EventStatus.PUBLISHED)
+                .build();
+        event.update();
+        return eventRepository.save(event);
+    }
+
+}
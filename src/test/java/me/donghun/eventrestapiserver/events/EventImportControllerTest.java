@@ -0,0 +1,170 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import me.donghun.eventrestapiserver.common.RestDocsConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureRestDocs
+@Import(RestDocsConfiguration.class)
+class EventImportControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("이벤트 가져오기 - NDJSON")
+    void importNdjson() throws Exception {
+        String body = objectMapper.writeValueAsString(eventDto()) + "\n" +
+                objectMapper.writeValueAsString(EventDto.builder().build()) + "\n" +
+                objectMapper.writeValueAsString(eventDto()) + "\n";
+
+        String location = mockMvc.perform(post("/api/events/imports")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists(HttpHeaders.LOCATION))
+                .andExpect(jsonPath("id").exists())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("create-events-import"))
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+
+        awaitFinished(location);
+
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("state").value("COMPLETED"))
+                .andExpect(jsonPath("processed").value(3))
+                .andExpect(jsonPath("imported").value(2))
+                .andExpect(jsonPath("rejected").value(1))
+                .andExpect(jsonPath("rejections[0].index").value(1))
+                .andExpect(jsonPath("rejections[0].errors[0].objectName").exists())
+                .andExpect(jsonPath("throughput").exists())
+                .andDo(document("get-events-import"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("이벤트 가져오기 - JSON 배열")
+    void importJsonArray() throws Exception {
+        String location = mockMvc.perform(post("/api/events/imports")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(eventDto(), eventDto(), eventDto()))))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+
+        awaitFinished(location);
+
+        mockMvc.perform(get(location))
+                .andExpect(jsonPath("state").value("COMPLETED"))
+                .andExpect(jsonPath("imported").value(3))
+                .andExpect(jsonPath("rejections", hasSize(0)))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("이벤트 가져오기 - 읽을 수 없는 항목과 null 은 그 항목만 거부")
+    void importUnreadableRecords() throws Exception {
+        String body = "[" + objectMapper.writeValueAsString(eventDto()) + "," +
+                "{\"name\": \"Spring\", \"basePrice\": \"free\", \"location\": {\"city\": \"서울\"}}," +
+                "null," +
+                objectMapper.writeValueAsString(eventDto()) + "]";
+
+        String location = mockMvc.perform(post("/api/events/imports")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+
+        awaitFinished(location);
+
+        mockMvc.perform(get(location))
+                .andExpect(jsonPath("state").value("COMPLETED"))
+                .andExpect(jsonPath("processed").value(4))
+                .andExpect(jsonPath("imported").value(2))
+                .andExpect(jsonPath("rejected").value(2))
+                .andExpect(jsonPath("rejections[0].index").value(1))
+                .andExpect(jsonPath("rejections[0].errors[0].field").value("basePrice"))
+                .andExpect(jsonPath("rejections[0].errors[0].code").value("typeMismatch"))
+                .andExpect(jsonPath("rejections[1].index").value(2))
+                .andExpect(jsonPath("rejections[1].errors[0].field").doesNotExist())
+                .andExpect(jsonPath("rejections[1].errors[0].code").value("typeMismatch"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("이벤트 가져오기 - 잘못된 JSON")
+    void importMalformed() throws Exception {
+        String location = mockMvc.perform(post("/api/events/imports")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\": "))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+
+        awaitFinished(location);
+
+        mockMvc.perform(get(location))
+                .andExpect(jsonPath("state").value("FAILED"))
+                .andExpect(jsonPath("failureMessage").exists())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("이벤트 가져오기 - 없는 작업")
+    void getImportNotFound() throws Exception {
+        mockMvc.perform(get("/api/events/imports/unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    private void awaitFinished(String location) throws Exception {
+        for(int i = 0; i < 100; i++) {
+            String response = mockMvc.perform(get(location)).andReturn().getResponse().getContentAsString();
+            String state = JsonPath.read(response, "state");
+            if(state.equals("COMPLETED") || state.equals("FAILED")) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private EventDto eventDto() {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2021, 9, 9, 20, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2021, 9, 10, 20, 30))
+                .beginEventDateTime(LocalDateTime.of(2021, 9, 11, 20, 30))
+                .endEventDateTime(LocalDateTime.of(2021, 9, 12, 20, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .build();
+    }
+
+}
@@ -0,0 +1,110 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "events.interval-index.enabled=true")
+@AutoConfigureMockMvc
+class EventIntervalIndexTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventIntervalIndex eventIntervalIndex;
+
+    @Test
+    @DisplayName("기간 겹침 조회 - 메모리 인덱스와 DB 조회 결과가 같다")
+    void findOverlapping() throws Exception {
+        LocalDateTime base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        Event first = generateEvent(base, base.plusHours(2));
+        Event second = generateEvent(base.plusHours(1), base.plusHours(5));
+        Event outside = generateEvent(base.plusHours(10), base.plusHours(11));
+        eventIntervalIndex.rebuild();
+
+        LocalDateTime from = base.plusMinutes(30);
+        LocalDateTime to = base.plusHours(3);
+        assertThat(eventIntervalIndex.findOverlapping(EventIntervalIndex.Period.EVENT, from, to))
+                .contains(List.of(first.getId(), second.getId()))
+                .contains(dbResult(from, to));
+
+        // 다시 만들기 전에 수정된 이벤트도 반영된다
+        mockMvc.perform(patch("/api/events/{id}", outside.getId())
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"closeEnrollmentDateTime\":\"" + base.minusHours(2) + "\"," +
+                                "\"beginEventDateTime\":\"" + base.minusHours(1) + "\"," +
+                                "\"endEventDateTime\":\"" + base.plusHours(1) + "\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/events/{id}", second.getId())
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"beginEventDateTime\":\"" + base.plusHours(6) + "\"," +
+                                "\"endEventDateTime\":\"" + base.plusHours(7) + "\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(eventIntervalIndex.findOverlapping(EventIntervalIndex.Period.EVENT, from, to))
+                .contains(List.of(outside.getId(), first.getId()))
+                .contains(dbResult(from, to));
+
+        mockMvc.perform(get("/api/events")
+                        .param("from", from.toString())
+                        .param("to", to.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventModelList[*].id").value(contains(outside.getId(), first.getId())))
+                .andExpect(jsonPath("page.totalElements").value(2));
+
+        eventIntervalIndex.rebuild();
+        assertThat(eventIntervalIndex.findOverlapping(EventIntervalIndex.Period.EVENT, from, to))
+                .contains(dbResult(from, to));
+    }
+
+    @Test
+    @DisplayName("기간 겹침 조회 - 메모리에 올라오지 않은 구간은 DB에서 조회한다")
+    void findOverlappingOutsideHorizon() {
+        LocalDateTime from = LocalDateTime.now().plusYears(1);
+
+        assertThat(eventIntervalIndex.findOverlapping(EventIntervalIndex.Period.EVENT, from, from.plusDays(1))).isEmpty();
+        assertThat(eventIntervalIndex.findOverlapping(EventIntervalIndex.Period.ENROLLMENT, LocalDateTime.now().minusDays(1),
+                LocalDateTime.now())).isEmpty();
+    }
+
+    private List<Integer> dbResult(LocalDateTime from, LocalDateTime to) {
+        Pageable pageable = PageRequest.of(0, 100);
+        return eventRepository.findEventPeriodOverlapping(from, to, pageable).stream()
+                .map(Event::getId)
+                .collect(Collectors.toList());
+    }
+
+    private Event generateEvent(LocalDateTime beginEvent, LocalDateTime endEvent) {
+        Event event = Event.builder()
+                .name("interval event")
+                .description("test event")
+                .beginEnrollmentDateTime(beginEvent.minusDays(1))
+                .closeEnrollmentDateTime(beginEvent.minusHours(1))
+                .beginEventDateTime(beginEvent)
+                .endEventDateTime(endEvent)
+                .build();
+        return eventRepository.save(event);
+    }
+
+}
@@ -0,0 +1,83 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventIntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Test
+    void findOverlapping() {
+        Random random = new Random(42);
+        List<EventPeriod> periods = new ArrayList<>();
+        for(int id = 1; id <= 500; id++) {
+            LocalDateTime begin = BASE.plusHours(random.nextInt(1000));
+            periods.add(period(id, begin, begin.plusHours(1 + random.nextInt(72))));
+        }
+        periods.add(period(501, null, BASE));
+        EventIntervalTree tree = EventIntervalTree.of(periods);
+
+        assertThat(tree.size()).isEqualTo(500);
+        for(int i = 0; i < 200; i++) {
+            LocalDateTime from = BASE.plusHours(random.nextInt(1100) - 50);
+            LocalDateTime to = from.plusHours(1 + random.nextInt(100));
+
+            List<Integer> found = new ArrayList<>();
+            tree.findOverlapping(EventIntervalIndex.toMillis(from), EventIntervalIndex.toMillis(to),
+                    (begin, eventId) -> found.add(eventId));
+
+            assertThat(found).isEqualTo(bruteForce(periods, from, to));
+        }
+    }
+
+    @Test
+    void touchingIsNotOverlapping() {
+        EventIntervalTree tree = EventIntervalTree.of(List.of(period(1, BASE, BASE.plusHours(1))));
+
+        List<Integer> found = new ArrayList<>();
+        tree.findOverlapping(EventIntervalIndex.toMillis(BASE.plusHours(1)), EventIntervalIndex.toMillis(BASE.plusHours(2)),
+                (begin, eventId) -> found.add(eventId));
+        tree.findOverlapping(EventIntervalIndex.toMillis(BASE.minusHours(1)), EventIntervalIndex.toMillis(BASE),
+                (begin, eventId) -> found.add(eventId));
+
+        assertThat(found).isEmpty();
+    }
+
+    private List<Integer> bruteForce(List<EventPeriod> periods, LocalDateTime from, LocalDateTime to) {
+        return periods.stream()
+                .filter(period -> period.getBeginAt() != null && period.getEndAt() != null)
+                .filter(period -> period.getBeginAt().isBefore(to) && period.getEndAt().isAfter(from))
+                .sorted(Comparator.comparing(EventPeriod::getBeginAt).thenComparing(EventPeriod::getEventId))
+                .map(EventPeriod::getEventId)
+                .collect(Collectors.toList());
+    }
+
+    private EventPeriod period(Integer eventId, LocalDateTime beginAt, LocalDateTime endAt) {
+        return new EventPeriod() {
+            @Override
+            public Integer getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public LocalDateTime getBeginAt() {
+                return beginAt;
+            }
+
+            @Override
+            public LocalDateTime getEndAt() {
+                return endAt;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,84 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventMapperTest {
+
+    private final EventMapper eventMapper = new EventMapper();
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    void toEvent() {
+        EventDto eventDto = fullEventDto();
+
+        Event event = eventMapper.toEvent(eventDto);
+
+        assertThat(event).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(eventDto, Event.class));
+        assertThat(event.getEventStatus()).isEqualTo(EventStatus.DRAFT);
+    }
+
+    @Test
+    void toEventWithEmptyFields() {
+        EventDto eventDto = EventDto.builder().name("name").build();
+
+        assertThat(eventMapper.toEvent(eventDto)).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(eventDto, Event.class));
+    }
+
+    @Test
+    void update() {
+        EventDto eventDto = fullEventDto();
+        eventDto.setLocation(null);
+        Event expected = existingEvent();
+        Event actual = existingEvent();
+
+        modelMapper.map(eventDto, expected);
+        eventMapper.update(eventDto, actual);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(actual.getId()).isEqualTo(10);
+        assertThat(actual.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void toEventDto() {
+        Event event = eventMapper.toEvent(fullEventDto());
+        event.setId(10);
+        event.setVersion(3L);
+
+        assertThat(eventMapper.toEventDto(event)).isEqualTo(modelMapper.map(event, EventDto.class));
+        assertThat(eventMapper.toEventDto(existingEvent())).isEqualTo(modelMapper.map(existingEvent(), EventDto.class));
+    }
+
+    private Event existingEvent() {
+        Event event = new Event();
+        event.setId(10);
+        event.setVersion(3L);
+        event.setName("old name");
+        event.setLocation("old location");
+        event.setEventStatus(EventStatus.PUBLISHED);
+        return event;
+    }
+
+    private EventDto fullEventDto() {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2021, 9, 9, 20, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2021, 9, 10, 20, 30))
+                .beginEventDateTime(LocalDateTime.of(2021, 9, 11, 20, 30))
+                .endEventDateTime(LocalDateTime.of(2021, 9, 12, 20, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .build();
+    }
+
+}
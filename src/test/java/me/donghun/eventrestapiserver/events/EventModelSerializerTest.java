@@ -0,0 +1,157 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.donghun.eventrestapiserver.common.HalObjectMappers;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventModelSerializerTest {
+
+    private final ObjectMapper objectMapper = HalObjectMappers.create();
+    private final ObjectMapper defaultObjectMapper = HalObjectMappers.createDefault();
+
+    @Test
+    void eventModel() throws Exception {
+        EventModel eventModel = new EventModel(event(1));
+        eventModel.add(Link.of("/docs/index.html#resources-events-get").withRel("profile"));
+
+        assertSameOutput(eventModel);
+    }
+
+    @Test
+    void eventModelWithEmptyFields() throws Exception {
+        assertSameOutput(new EventModel(Event.builder().id(1).build()));
+        assertSameOutput(new EventModel(new Event()));
+    }
+
+    @Test
+    void eventModelWithSameRelLinks() throws Exception {
+        EventModel eventModel = new EventModel(event(1));
+        eventModel.add(Link.of("/api/events/2").withRel("related"));
+        eventModel.add(Link.of("/docs/index.html").withRel("profile"));
+        eventModel.add(Link.of("/api/events/3").withRel("related"));
+
+        assertSameOutput(eventModel);
+    }
+
+    @Test
+    void eventModelWithTemplatedLink() throws Exception {
+        EventModel eventModel = new EventModel(event(1));
+        eventModel.add(Link.of("/api/events{?page,size}").withRel("query"));
+        eventModel.add(Link.of("/docs/index.html").withRel("profile").withTitle("문서"));
+
+        assertSameOutput(eventModel);
+    }
+
+    @Test
+    void pagedModel() throws Exception {
+        PagedModel<EventModel> pagedModel = PagedModel.of(List.of(new EventModel(event(1)), new EventModel(event(2))),
+                new PagedModel.PageMetadata(2, 0, 35, 18));
+        pagedModel.add(Link.of("http://localhost/api/events?page=0&size=2").withSelfRel());
+        pagedModel.add(Link.of("/docs/index.html#resources-events-list").withRel("profile"));
+
+        assertSameOutput(pagedModel);
+    }
+
+    @Test
+    void collectionModel() throws Exception {
+        CollectionModel<EventModel> collectionModel = CollectionModel.of(List.of(new EventModel(event(1))));
+        collectionModel.add(Link.of("/docs/index.html#resources-events-keyset-list").withRel("profile"));
+
+        assertSameOutput(collectionModel);
+        assertSameOutput(CollectionModel.of(List.of(new EventModel(event(1)))));
+    }
+
+    @Test
+    void emptyOrOtherCollectionModel() throws Exception {
+        assertSameOutput(PagedModel.of(Collections.<EventModel>emptyList(), new PagedModel.PageMetadata(20, 0, 0, 0)));
+        assertSameOutput(CollectionModel.of(List.of(new EventModel(event(1)), EntityModel.of(event(2)))));
+    }
+
+    @Test
+    void eventModelWithSelectedFields() throws Exception {
+        EventModel eventModel = new EventModel(event(1), EventFields.parse("eventStatus,name,beginEventDateTime"));
+        eventModel.add(Link.of("/docs/index.html#resources-events-get").withRel("profile"));
+
+        assertThat(objectMapper.writeValueAsString(eventModel)).isEqualTo("{\"id\":1,\"name\":\"Spring \\\"REST\\\" 1\"," +
+                "\"beginEventDateTime\":\"2021-09-03T14:21:00\",\"eventStatus\":\"PUBLISHED\"," +
+                "\"_links\":{\"self\":{\"href\":\"/api/events/1\"},\"profile\":{\"href\":\"/docs/index.html#resources-events-get\"}}}");
+    }
+
+    @Test
+    void collectionModelWithSelectedFields() throws Exception {
+        EventFields fields = EventFields.parse("name");
+        CollectionModel<EventModel> collectionModel = CollectionModel.of(List.of(new EventModel(event(1), fields)));
+        // 기본 HAL 직렬화로 넘어가도 항목은 고른 필드만 쓴다
+        collectionModel.add(Link.of("/api/events{?page,size}").withRel("query"));
+
+        String json = objectMapper.writeValueAsString(collectionModel);
+
+        assertThat(json).contains("{\"id\":1,\"name\":\"Spring \\\"REST\\\" 1\",\"_links\":{\"self\":{\"href\":\"/api/events/1\"}}}");
+        assertThat(json).doesNotContain("description");
+    }
+
+    // writeEventFields 와 EventField 는 Event 의 속성을 직접 나열하므로, Event 에 필드가 생기거나 이름이 바뀌면 여기서 실패한다
+    @Test
+    void eventFieldsMatchEvent() throws Exception {
+        Event event = event(1);
+        List<String> eventProperties = fieldNames(defaultObjectMapper.valueToTree(event));
+        assertThat(eventProperties).doesNotContain("version");
+
+        JsonNode eventModel = objectMapper.valueToTree(new EventModel(event));
+        List<String> written = fieldNames(eventModel);
+        assertThat(written.remove("_links")).isTrue();
+        assertThat(written).isEqualTo(eventProperties);
+
+        List<String> eventFields = Arrays.stream(EventField.values()).map(EventField::getName).collect(Collectors.toList());
+        assertThat(eventFields).isEqualTo(eventProperties);
+
+        JsonNode allFields = objectMapper.valueToTree(new EventModel(event, EventFields.parse(String.join(",", eventFields))));
+        assertThat(allFields).isEqualTo(eventModel);
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private void assertSameOutput(Object model) throws Exception {
+        assertThat(new String(objectMapper.writeValueAsBytes(model)))
+                .isEqualTo(new String(defaultObjectMapper.writeValueAsBytes(model)));
+    }
+
+    private Event event(int id) {
+        Event event = Event.builder()
+                .id(id)
+                .name("Spring \"REST\" " + id)
+                .description("REST API Development with Spring\n한글")
+                .beginEnrollmentDateTime(LocalDateTime.of(2021, 9, 1, 14, 21))
+                .closeEnrollmentDateTime(LocalDateTime.of(2021, 9, 2, 14, 21))
+                .beginEventDateTime(LocalDateTime.of(2021, 9, 3, 14, 21))
+                .endEventDateTime(LocalDateTime.of(2021, 9, 4, 14, 21))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .eventStatus(EventStatus.PUBLISHED)
+                .version(3L)
+                .build();
+        event.update();
+        return event;
+    }
+
+}
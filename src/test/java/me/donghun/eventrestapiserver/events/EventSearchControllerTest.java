@@ -0,0 +1,125 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import me.donghun.eventrestapiserver.common.RestDocsConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureRestDocs
+@Import(RestDocsConfiguration.class)
+class EventSearchControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("이벤트 검색 - 한글, 이름에 있으면 더 앞에 나온다")
+    void searchEventsKorean() throws Exception {
+        int inDescription = createEvent("자바 스터디", "코틀린 코루틴도 조금 다룬다");
+        int inName = createEvent("코틀린 코루틴 입문", "비동기 프로그래밍");
+
+        mockMvc.perform(get("/api/events/search").param("q", "코루틴"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventModelList[*].id").value(contains(inName, inDescription)))
+                .andExpect(jsonPath("page.totalElements").value(2))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("events-search"))
+                .andDo(print());
+
+        mockMvc.perform(get("/api/events/search").param("q", "코틀린 입문"))
+                .andExpect(jsonPath("_embedded.eventModelList[*].id").value(contains(inName)));
+    }
+
+    @Test
+    @DisplayName("이벤트 검색 - 한글 한 글자 검색어도 여러 글자 단어를 찾는다")
+    void searchEventsKoreanSingleSyllable() throws Exception {
+        int eventId = createEvent("강남역 모각코", "매주 토요일");
+
+        mockMvc.perform(get("/api/events/search").param("q", "역"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventModelList[*].id").value(hasItem(eventId)));
+        mockMvc.perform(get("/api/events/search").param("q", "강남역"))
+                .andExpect(jsonPath("_embedded.eventModelList[*].id").value(hasItem(eventId)));
+    }
+
+    @Test
+    @DisplayName("이벤트 검색 - 영문, 수정하면 색인도 바뀐다")
+    void searchEventsAfterUpdate() throws Exception {
+        int eventId = createEvent("Reactive Streams Workshop", "Project Reactor deep dive");
+
+        mockMvc.perform(get("/api/events/search").param("q", "REACTOR deep"))
+                .andExpect(jsonPath("_embedded.eventModelList[*].id").value(contains(eventId)));
+
+        mockMvc.perform(patch("/api/events/{id}", eventId)
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"description\":\"Kafka Streams\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/events/search").param("q", "reactor"))
+                .andExpect(jsonPath("page.totalElements").value(0));
+        mockMvc.perform(get("/api/events/search").param("q", "kafka streams"))
+                .andExpect(jsonPath("_embedded.eventModelList[*].id").value(hasItem(eventId)));
+    }
+
+    @Test
+    @DisplayName("이벤트 검색 - 시작할 때 DB에 있던 이벤트도 찾는다")
+    void searchSeededEvents() throws Exception {
+        mockMvc.perform(get("/api/events/search").param("q", "event29"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventModelList[0].name").value("event29"));
+    }
+
+    @Test
+    @DisplayName("이벤트 검색 - 빈 검색어")
+    void searchEventsBlank() throws Exception {
+        mockMvc.perform(get("/api/events/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/events/search").param("q", "없는검색어"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded").doesNotExist());
+    }
+
+    private int createEvent(String name, String description) throws Exception {
+        EventDto eventDto = EventDto.builder()
+                .name(name)
+                .description(description)
+                .beginEnrollmentDateTime(LocalDateTime.of(2021, 9, 9, 20, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2021, 9, 10, 20, 30))
+                .beginEventDateTime(LocalDateTime.of(2021, 9, 11, 20, 30))
+                .endEventDateTime(LocalDateTime.of(2021, 9, 12, 20, 30))
+                .build();
+
+        String response = mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "id");
+    }
+
+}
@@ -0,0 +1,155 @@
+package me.donghun.eventrestapiserver.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import me.donghun.eventrestapiserver.common.RestDocsConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureRestDocs
+@Import(RestDocsConfiguration.class)
+class EventStatsControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventStatistics eventStatistics;
+
+    @Test
+    @DisplayName("이벤트 통계 - 생성과 수정이 카운터에 반영된다")
+    void getStats() throws Exception {
+        DocumentContext before = stats();
+
+        int freeOnline = createEvent(0, 0, null);
+        createEvent(20000, 40000, "강남역");
+        DocumentContext created = stats();
+        assertThat(count(created, "total") - count(before, "total")).isEqualTo(2);
+        assertThat(count(created, "eventStatus.DRAFT") - count(before, "eventStatus.DRAFT")).isEqualTo(2);
+        assertThat(count(created, "free") - count(before, "free")).isEqualTo(1);
+        assertThat(count(created, "paid") - count(before, "paid")).isEqualTo(1);
+        assertThat(count(created, "offline") - count(before, "offline")).isEqualTo(1);
+        assertThat(count(created, "basePrice[0].count") - count(before, "basePrice[0].count")).isEqualTo(1);
+        assertThat(count(created, "basePrice[1].count") - count(before, "basePrice[1].count")).isEqualTo(1);
+        assertThat(count(created, "maxPrice[2].count") - count(before, "maxPrice[2].count")).isEqualTo(1);
+
+        // 수정하면 예전 값에서 빠지고 새 값으로 들어간다
+        mockMvc.perform(patch("/api/events/{id}", freeOnline)
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"eventStatus\":\"PUBLISHED\",\"location\":\"판교역\"}"))
+                .andExpect(status().isOk());
+        DocumentContext updated = stats();
+        assertThat(count(updated, "total")).isEqualTo(count(created, "total"));
+        assertThat(count(updated, "eventStatus.DRAFT") - count(created, "eventStatus.DRAFT")).isEqualTo(-1);
+        assertThat(count(updated, "eventStatus.PUBLISHED") - count(created, "eventStatus.PUBLISHED")).isEqualTo(1);
+        assertThat(count(updated, "offline") - count(created, "offline")).isEqualTo(1);
+
+        mockMvc.perform(get("/api/events/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("basePrice[0].from").value(0))
+                .andExpect(jsonPath("basePrice[0].to").value(10000))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("events-stats"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("이벤트 통계 - 시작할 때 처음 세는 것은 drift 로 남기지 않는다")
+    @ExtendWith(OutputCaptureExtension.class)
+    void initialize(CapturedOutput output) {
+        EventStatistics statistics = new EventStatistics(eventRepository, new int[]{0, 10000}, 5000);
+
+        statistics.initialize();
+
+        assertThat(eventRepository.count()).isPositive();
+        assertThat(statistics.getStats().getTotal()).isEqualTo(eventRepository.count());
+        assertThat(statistics.getStats().getDrift()).isEmpty();
+        assertThat(output).doesNotContain("event statistics drifted");
+    }
+
+    @Test
+    @DisplayName("이벤트 통계 - reconcile 은 카운터를 DB에 맞추고 어긋난 만큼을 알려준다")
+    void reconcile() throws Exception {
+        eventStatistics.reconcile();
+        long total = count(stats(), "total");
+
+        // EventsChangedEvent 없이 저장된 이벤트
+        eventRepository.save(Event.builder()
+                .name("unpublished change")
+                .eventStatus(EventStatus.DRAFT)
+                .build());
+        assertThat(count(stats(), "total")).isEqualTo(total);
+
+        Map<String, Long> drift = eventStatistics.reconcile();
+
+        assertThat(drift).containsEntry("total", -1L).containsEntry("eventStatus.DRAFT", -1L);
+        DocumentContext reconciled = stats();
+        assertThat(count(reconciled, "total")).isEqualTo(total + 1);
+        assertThat(count(reconciled, "drift.total")).isEqualTo(-1);
+        assertThat(eventStatistics.reconcile()).isEmpty();
+    }
+
+    private DocumentContext stats() throws Exception {
+        String response = mockMvc.perform(get("/api/events/stats"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.parse(response);
+    }
+
+    private long count(DocumentContext stats, String path) {
+        return stats.read(path, Long.class);
+    }
+
+    private int createEvent(int basePrice, int maxPrice, String location) throws Exception {
+        EventDto eventDto = EventDto.builder()
+                .name("stats event")
+                .description("test event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2021, 9, 9, 20, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2021, 9, 10, 20, 30))
+                .beginEventDateTime(LocalDateTime.of(2021, 9, 11, 20, 30))
+                .endEventDateTime(LocalDateTime.of(2021, 9, 12, 20, 30))
+                .basePrice(basePrice)
+                .maxPrice(maxPrice)
+                .location(location)
+                .build();
+
+        String response = mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "id");
+    }
+
+}
@@ -0,0 +1,96 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class EventStatusSchedulerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventStatusScheduler eventStatusScheduler;
+
+    @Autowired
+    EventCounter eventCounter;
+
+    @Test
+    @DisplayName("상태 전이 - 게시된 이벤트는 모집 시작/마감 시각에 상태가 바뀐다")
+    void fireTransitions() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        Event event = generateEvent(EventStatus.DRAFT, now.minusHours(1), now.plusMinutes(30));
+        eventStatusScheduler.fireDue(now);
+
+        // 게시하면 arm 되어 다음 tick 에 처리된다
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType(EventPatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"eventStatus\":\"PUBLISHED\"}"))
+                .andExpect(status().isOk());
+        String eTag = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        eventStatusScheduler.fireDue(LocalDateTime.now());
+
+        String beganETag = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(jsonPath("eventStatus").value("BEGAN_ENROLLMENT"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(beganETag).isNotEqualTo(eTag);
+
+        eventCounter.initialize();
+        eventStatusScheduler.fireDue(now.plusMinutes(31));
+
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(jsonPath("eventStatus").value("CLOSED_ENROLLMENT"));
+        // 목록 ETag 용 값은 일괄 update 로 바뀐 만큼만 따라간다
+        assertThat(eventCounter.eventsVersion().getVersionSum())
+                .isEqualTo(eventRepository.findEventsVersion().getVersionSum());
+        assertThat(eventCounter.approximateTotal()).isEqualTo(eventRepository.count());
+    }
+
+    @Test
+    @DisplayName("상태 전이 - 아직 읽지 않은 구간의 이벤트는 그 구간을 읽을 때 처리된다")
+    void fireTransitionsInNextWindow() {
+        LocalDateTime now = LocalDateTime.now();
+        Event event = generateEvent(EventStatus.PUBLISHED, now.plusHours(5), now.plusHours(10));
+        Event draft = generateEvent(EventStatus.DRAFT, now.plusHours(5), now.plusHours(10));
+
+        eventStatusScheduler.fireDue(now.plusHours(5).plusMinutes(1));
+
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getEventStatus())
+                .isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+        assertThat(eventRepository.findById(draft.getId()).orElseThrow().getEventStatus())
+                .isEqualTo(EventStatus.DRAFT);
+    }
+
+    private Event generateEvent(EventStatus eventStatus, LocalDateTime beginEnrollment, LocalDateTime closeEnrollment) {
+        Event event = Event.builder()
+                .name("scheduled event")
+                .description("test event")
+                .beginEnrollmentDateTime(beginEnrollment)
+                .closeEnrollmentDateTime(closeEnrollment)
+                .beginEventDateTime(closeEnrollment.plusDays(1))
+                .endEventDateTime(closeEnrollment.plusDays(2))
+                .eventStatus(eventStatus)
+                .build();
+        return eventRepository.save(event);
+    }
+
+}
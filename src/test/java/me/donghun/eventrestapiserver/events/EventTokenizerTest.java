@@ -0,0 +1,37 @@
+package me.donghun.eventrestapiserver.events;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventTokenizerTest {
+
+    @Test
+    void tokenizeEnglish() {
+        assertThat(EventTokenizer.tokenize("Spring REST-API, ２０２１!"))
+                .containsExactly("spring", "rest", "api", "2021");
+    }
+
+    @Test
+    void tokenizeKorean() {
+        assertThat(EventTokenizer.tokenize("스프링을 배우자 강"))
+                .containsExactly("스프", "프링", "링을", "배우", "우자", "강");
+    }
+
+    @Test
+    void tokenizeKoreanForIndex() {
+        assertThat(EventTokenizer.tokenizeForIndex("강남역 강"))
+                .containsExactly("강남", "남역", "강", "남", "역", "강");
+        assertThat(EventTokenizer.tokenizeForIndex("Spring부트"))
+                .containsExactly("spring", "부트", "부", "트");
+    }
+
+    @Test
+    void tokenizeMixed() {
+        assertThat(EventTokenizer.tokenize("Spring부트 입문"))
+                .containsExactly("spring", "부트", "입문");
+        assertThat(EventTokenizer.tokenize(null)).isEmpty();
+        assertThat(EventTokenizer.tokenize(" - ")).isEmpty();
+    }
+
+}
@@ -33,4 +33,15 @@ class IndexControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("인덱스 페이지 - 프록시 뒤에서는 forwarded 헤더로 링크를 만든다")
+    void indexBehindProxy() throws Exception {
+        mockMvc.perform(get("/api")
+                        .header("X-Forwarded-Proto", "https")
+                        .header("X-Forwarded-Host", "api.example.com")
+                        .header("X-Forwarded-Port", "443"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_links.events.href").value("https://api.example.com/api/events"));
+    }
+
 }
\ No newline at end of file
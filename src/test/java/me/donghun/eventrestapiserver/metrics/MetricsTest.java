@@ -0,0 +1,89 @@
+package me.donghun.eventrestapiserver.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.donghun.eventrestapiserver.events.EventDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics // 테스트에서는 기본으로 Prometheus 로 내보내지 않는다
+class MetricsTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("지표 - 이벤트 생성의 단계별 시간이 Prometheus 형식으로 나온다")
+    void phaseTimers() throws Exception {
+        mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto(100, 200))))
+                .andExpect(status().isCreated());
+
+        String scrape = scrape();
+
+        for(Phase phase : Phase.values()) {
+            assertThat(scrape).contains("events_phase_seconds_count{handler=\"EventController.createEvent\",phase=\"" + phase.getTag() + "\",}");
+        }
+        assertThat(scrape).contains("events_phase_seconds_bucket{handler=\"EventController.createEvent\",phase=\"repository\",le=");
+        assertThat(scrape).contains("http_server_requests_seconds_bucket{");
+        assertThat(scrape).contains("cache_gets_total{cache=\"events\"");
+        assertThat(scrape).contains("hikaricp_connections_active{");
+    }
+
+    @Test
+    @DisplayName("지표 - 검증 오류를 field, code 별로 센다")
+    void validationRejections() throws Exception {
+        mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto(300, 200))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+
+        String scrape = scrape();
+
+        assertThat(scrape).contains("events_validation_rejections_total{code=\"wrongValue\",field=\"basePrice\",}");
+        assertThat(scrape).contains("events_validation_rejections_total{code=\"wrongValue\",field=\"maxPrice\",}");
+        assertThat(scrape).contains("events_validation_rejections_total{code=\"NotEmpty\",field=\"name\",}");
+    }
+
+    private String scrape() throws Exception {
+        return mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private EventDto eventDto(int basePrice, int maxPrice) {
+        return EventDto.builder()
+                .name("metrics event")
+                .description("test event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2021, 9, 9, 20, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2021, 9, 10, 20, 30))
+                .beginEventDateTime(LocalDateTime.of(2021, 9, 11, 20, 30))
+                .endEventDateTime(LocalDateTime.of(2021, 9, 12, 20, 30))
+                .basePrice(basePrice)
+                .maxPrice(maxPrice)
+                .build();
+    }
+
+}
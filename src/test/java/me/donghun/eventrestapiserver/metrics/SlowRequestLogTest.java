@@ -0,0 +1,78 @@
+package me.donghun.eventrestapiserver.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowRequestLogTest {
+
+    @Test
+    @DisplayName("느린 요청 - ring buffer 는 최근 capacity 건만 최근 것부터 돌려준다")
+    void ringBuffer() {
+        SlowRequestLog slowRequestLog = new SlowRequestLog(Duration.ZERO, 3);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        RequestProfile profile = new RequestProfile();
+
+        for(int i = 0; i < 5; i++) {
+            profile.begin("EventController.getEvents" + i);
+            profile.addPhase(Phase.REPOSITORY, 2_000_000);
+            profile.statementPrepared("select " + i);
+            profile.statementStarted(1);
+            profile.statementEnded(1_000_001);
+            slowRequestLog.record(profile, request, 200);
+            profile.end();
+        }
+
+        assertThat(slowRequestLog.recent().stream().map(SlowRequest::getHandler).collect(Collectors.toList()))
+                .containsExactly("EventController.getEvents4", "EventController.getEvents3", "EventController.getEvents2");
+        SlowRequest latest = slowRequestLog.recent().get(0);
+        assertThat(latest.getPhases()).containsEntry("repository", 2.0);
+        assertThat(latest.getStatementCount()).isEqualTo(1);
+        assertThat(latest.getStatements().get(0).getSql()).isEqualTo("select 4");
+        assertThat(latest.getStatements().get(0).getDurationMillis()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("느린 요청 - threshold 아래인 요청은 기록하지 않고 메모리도 할당하지 않는다")
+    void fastPathDoesNotAllocate() {
+        SlowRequestLog slowRequestLog = new SlowRequestLog(Duration.ofHours(1), 3);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        RequestProfile profile = new RequestProfile();
+        String sql = "select e from event e";
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        // JIT 이 끝나도록 먼저 돌린다
+        for(int i = 0; i < 100_000; i++) {
+            fastRequest(slowRequestLog, request, profile, sql);
+        }
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for(int i = 0; i < 100_000; i++) {
+            fastRequest(slowRequestLog, request, profile, sql);
+        }
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(slowRequestLog.recent()).isEmpty();
+        // 측정 자체가 쓰는 약간의 할당만 허용한다 (요청당 1 byte 미만)
+        assertThat(allocated).isLessThan(100_000);
+    }
+
+    private void fastRequest(SlowRequestLog slowRequestLog, MockHttpServletRequest request, RequestProfile profile, String sql) {
+        profile.begin("EventController.getEvents");
+        profile.addPhase(Phase.BINDING, 10);
+        profile.addPhase(Phase.REPOSITORY, 10);
+        profile.statementPrepared(sql);
+        profile.statementStarted(System.nanoTime());
+        profile.statementEnded(System.nanoTime());
+        profile.serializationStarted(System.nanoTime());
+        slowRequestLog.record(profile, request, 200);
+        profile.end();
+    }
+
+}
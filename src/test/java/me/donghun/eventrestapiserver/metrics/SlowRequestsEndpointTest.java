@@ -0,0 +1,65 @@
+package me.donghun.eventrestapiserver.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.donghun.eventrestapiserver.events.EventDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "events.slow-requests.threshold=0ms")
+@AutoConfigureMockMvc
+class SlowRequestsEndpointTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("느린 요청 - 단계별 시간과 실행한 SQL 을 actuator 로 보여준다")
+    void slowRequests() throws Exception {
+        EventDto eventDto = EventDto.builder()
+                .name("slow event")
+                .description("test event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2021, 9, 9, 20, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2021, 9, 10, 20, 30))
+                .beginEventDateTime(LocalDateTime.of(2021, 9, 11, 20, 30))
+                .endEventDateTime(LocalDateTime.of(2021, 9, 12, 20, 30))
+                .build();
+        mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/actuator/slowrequests"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[0].handler").value("EventController.createEvent"))
+                .andExpect(jsonPath("[0].method").value("POST"))
+                .andExpect(jsonPath("[0].uri").value("/api/events"))
+                .andExpect(jsonPath("[0].status").value(201))
+                .andExpect(jsonPath("[0].durationMillis").isNumber())
+                .andExpect(jsonPath("[0].phases.binding").isNumber())
+                .andExpect(jsonPath("[0].phases.bean-validation").isNumber())
+                .andExpect(jsonPath("[0].phases.event-validator").isNumber())
+                .andExpect(jsonPath("[0].phases.mapping").isNumber())
+                .andExpect(jsonPath("[0].phases.repository").isNumber())
+                .andExpect(jsonPath("[0].phases.serialization").isNumber())
+                .andExpect(jsonPath("[0].statements[*].sql").value(hasItem(startsWith("insert into event"))))
+                .andExpect(jsonPath("[0].statements[0].durationMillis").isNumber());
+    }
+
+}
@@ -0,0 +1,24 @@
+package me.donghun.eventrestapiserver.reactive;
+
+import me.donghun.eventrestapiserver.events.EventApiScenarios;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(classes = ReactiveEventApiApplication.class,
+        properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles(ReactiveEventApiApplication.PROFILE)
+@AutoConfigureWebTestClient
+class ReactiveEventApiTest extends EventApiScenarios {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Override
+    protected WebTestClient webTestClient() {
+        return webTestClient;
+    }
+
+}